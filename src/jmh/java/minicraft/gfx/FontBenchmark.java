@@ -0,0 +1,51 @@
+package minicraft.gfx;
+
+import minicraft.Fixtures;
+import minicraft.core.Renderer;
+import minicraft.gfx.SpriteLinker.SpriteType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Drawing a line of text, with a synthetic font sheet. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FontBenchmark {
+	@Param({"Score: 12345", "The quick brown fox jumps over the lazy dog, 0123456789 times!"})
+	public String text;
+
+	private Screen screen;
+
+	@Setup
+	public void setup() {
+		Fixtures.init();
+		Renderer.spriteLinker.setSprite(SpriteType.Gui, "font", Fixtures.sheet(256, 64, 0x5EED));
+		screen = new Screen();
+	}
+
+	@Benchmark
+	public int[] draw() {
+		Font.draw(text, screen, 4, 4);
+		return screen.pixels;
+	}
+
+	@Benchmark
+	public int[] drawColored() {
+		Font.draw(text, screen, 4, 20, Color.RED);
+		return screen.pixels;
+	}
+}
@@ -0,0 +1,74 @@
+package minicraft.gfx;
+
+import minicraft.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Drawing a full screen of 8x8 sprites, and the lighting overlay on top of it. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScreenBenchmark {
+	@Param({"1", "3"}) // Underground, and the surface.
+	public int currentLevel;
+
+	private Screen screen;
+	private Screen lightScreen;
+	private int[] background;
+	private MinicraftImage sheet;
+
+	@Setup
+	public void setup() {
+		Fixtures.init();
+		sheet = Fixtures.sheet(256, 256, 0x5EED);
+		screen = new Screen();
+		lightScreen = new Screen();
+		render();
+		background = screen.pixels.clone();
+		renderLight();
+	}
+
+	/** Every sprite is drawn at a position that is not aligned to the tile grid, so it is clipped at the edges. */
+	@Benchmark
+	public int[] render() {
+		screen.setOffset(3, 5);
+		for (int y = 0; y <= Screen.h / 8; y++) {
+			for (int x = 0; x <= Screen.w / 8; x++) {
+				int bits = (x ^ y) & 3; // All four ways of mirroring.
+				screen.render(x * 8, y * 8, (x + y) & 31, (y * 3) & 31, bits, sheet, -1, false, 0);
+			}
+		}
+
+		screen.setOffset(0, 0);
+		return screen.pixels;
+	}
+
+	@Benchmark
+	public int[] renderLight() {
+		lightScreen.clear(0);
+		for (int i = 0; i < 12; i++)
+			lightScreen.renderLight((i * 97) % Screen.w, (i * 53) % Screen.h, 8 + (i % 4) * 16);
+		return lightScreen.pixels;
+	}
+
+	@Benchmark
+	public int[] overlay() {
+		System.arraycopy(background, 0, screen.pixels, 0, background.length);
+		screen.overlay(lightScreen, currentLevel, 0, 0);
+		return screen.pixels;
+	}
+}
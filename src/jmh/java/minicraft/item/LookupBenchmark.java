@@ -0,0 +1,89 @@
+package minicraft.item;
+
+import minicraft.Fixtures;
+import minicraft.level.tile.Tile;
+import minicraft.level.tile.Tiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** The registry lookups done all over the game: tiles by name and id, items by name, and counting items in an inventory. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LookupBenchmark {
+	private static final String[] tileNames = { "Grass", "Rock", "Water", "Tree", "Sand", "Stairs Down", "Iron Ore", "Torch Grass", "Wood Planks", "Ornate Obsidian" };
+	private static final String[] itemNames = { "Wood", "Stone", "Apple", "Iron", "Torch", "Wood Pickaxe", "Gem Sword", "Bread", "Lantern", "Arrow" };
+
+	private short[] tileIds;
+	private Inventory inventory;
+	private Item[] wanted;
+
+	@Setup
+	public void setup() {
+		Fixtures.init();
+
+		tileIds = new short[tileNames.length];
+		for (int i = 0; i < tileNames.length; i++)
+			tileIds[i] = Tiles.get(tileNames[i]).id;
+
+		// A full inventory, with some stacks split over several slots.
+		inventory = new Inventory();
+		for (int i = 0; i < inventory.getMaxSlots(); i++) {
+			Item item = Items.get(itemNames[i % itemNames.length]);
+			inventory.add(item);
+		}
+
+		wanted = new Item[itemNames.length];
+		for (int i = 0; i < itemNames.length; i++)
+			wanted[i] = Items.get(itemNames[i]);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(10)
+	public void tilesGetByName(Blackhole bh) {
+		for (String name : tileNames)
+			bh.consume(Tiles.get(name));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(10)
+	public void tilesGetById(Blackhole bh) {
+		for (short id : tileIds)
+			bh.consume(Tiles.get(id));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(10)
+	public void itemsGet(Blackhole bh) {
+		for (String name : itemNames)
+			bh.consume(Items.get(name));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(10)
+	public void inventoryCount(Blackhole bh) {
+		for (Item item : wanted)
+			bh.consume(inventory.count(item));
+	}
+
+	/** Resolving a tile name, like the old text save format does for every tile. */
+	@Benchmark
+	public Tile tilesGetTorch() {
+		return Tiles.get("Torch Sand");
+	}
+}
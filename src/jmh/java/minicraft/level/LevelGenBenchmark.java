@@ -0,0 +1,44 @@
+package minicraft.level;
+
+import minicraft.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Generating the map of a level, for each depth. The seed changes every call, so retries of the validation are included on average. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LevelGenBenchmark {
+	@Param({"1", "0", "-1", "-2", "-3", "-4"})
+	public int depth;
+
+	@Param({"128", "256"})
+	public int size;
+
+	private long seed;
+
+	@Setup
+	public void setup() {
+		Fixtures.init();
+		seed = 0x5EED;
+	}
+
+	@Benchmark
+	public short[][] createAndValidateMap() {
+		return LevelGen.createAndValidateMap(size, size, depth, seed++);
+	}
+}
@@ -0,0 +1,52 @@
+package minicraft.level;
+
+import minicraft.Fixtures;
+import minicraft.core.io.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** A full tick of a level: the random tile ticks, and the ticks of all the entities in it. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LevelTickBenchmark {
+	@Param({"128", "256", "512"})
+	public int size;
+
+	@Param({"0", "100", "1000"})
+	public int entities;
+
+	// The "simdist" setting. There is no player, so at 0 (everywhere) every entity ticks, and at 2 (48 tiles) every entity is dormant.
+	@Param({"0", "2"})
+	public int simdist;
+
+	private Level level;
+
+	// A fresh level for each iteration, so the mobs don't slowly wander off into a different state.
+	@Setup(org.openjdk.jmh.annotations.Level.Iteration)
+	public void setup() {
+		level = Fixtures.level(size, entities, 0x5EED);
+		Settings.setIdx("simdist", simdist);
+		level.tick(false); // Adds the mobs.
+	}
+
+	@Benchmark
+	public Level tick() {
+		level.tick(true);
+		return level;
+	}
+}
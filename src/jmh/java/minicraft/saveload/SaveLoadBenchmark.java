@@ -0,0 +1,86 @@
+package minicraft.saveload;
+
+import minicraft.Fixtures;
+import minicraft.core.Game;
+import minicraft.entity.Entity;
+import minicraft.level.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading a level, in memory so the disk does not affect the results:
+ * the tiles through the binary level format, and the entities through their text form.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SaveLoadBenchmark {
+	@Param({"128", "256", "512"})
+	public int size;
+
+	private Level level;
+	private byte[] levelBytes;
+	private Entity[] entities;
+	private List<String> entityData;
+
+	@Setup
+	public void setup() throws IOException {
+		level = Fixtures.level(size, size, 0x5EED);
+		level.tick(false); // Adds the mobs.
+		levelBytes = writeLevel().toByteArray();
+
+		entities = level.getEntityArray();
+		entityData = writeEntities();
+	}
+
+	@Benchmark
+	public ByteArrayOutputStream writeLevel() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+		LevelFile.snapshot(level).write(out);
+		return out;
+	}
+
+	@Benchmark
+	public LevelFile readLevel() throws IOException {
+		return LevelFile.read(new ByteArrayInputStream(levelBytes));
+	}
+
+	@Benchmark
+	public LevelFile roundTripLevel() throws IOException {
+		return LevelFile.read(new ByteArrayInputStream(writeLevel().toByteArray()));
+	}
+
+	@Benchmark
+	public List<String> writeEntities() {
+		List<String> data = new ArrayList<>(entities.length);
+		for (Entity e : entities)
+			data.add(Save.writeEntity(e, true));
+		return data;
+	}
+
+	@Benchmark
+	public void readEntities(Blackhole bh) {
+		for (String data : entityData)
+			bh.consume(Load.loadEntity(data, Game.VERSION, true));
+	}
+}
@@ -8,6 +8,7 @@ import minicraft.level.Level;
 import minicraft.level.tile.Tiles;
 import minicraft.network.Analytics;
 import minicraft.saveload.Load;
+import minicraft.saveload.SaveWriter;
 import minicraft.saveload.Version;
 import minicraft.screen.Display;
 import minicraft.screen.ResourcePackDisplay;
@@ -24,7 +25,7 @@ public class Game {
 
 	public static final String NAME = "Minicraft Plus"; // This is the name on the application window.
 
-	public static final Version VERSION = new Version("2.2.0-dev3");
+	public static final Version VERSION = new Version("2.2.0-dev4");
 
 	public static InputHandler input; // Input used in Game, Player, and just about all the *Menu classes.
 	public static Player player;
@@ -77,6 +78,8 @@ public class Game {
 	static boolean running = true;
 	public static void quit() { running = false; }
 
+	static boolean headless = false; // Set by the headless runner; there is no window, sound or keyboard, and the game is always "focused".
+
 
 	public static void main(String[] args) {
 		Thread.setDefaultUncaughtExceptionHandler(CrashHandler::crashHandle);
@@ -114,6 +117,7 @@ public class Game {
 		Initializer.run();
 
 		Logging.GAMEHANDLER.debug("Main game loop ended; Terminating application...");
+		SaveWriter.flush(); // Don't exit before the last save has been written.
 		System.exit(0);
 	}
 }
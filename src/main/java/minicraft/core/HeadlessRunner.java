@@ -0,0 +1,157 @@
+package minicraft.core;
+
+import minicraft.core.io.InputHandler;
+import minicraft.core.io.Settings;
+import minicraft.entity.Entity;
+import minicraft.entity.EntityPool;
+import minicraft.entity.mob.Mob;
+import minicraft.level.Level;
+import minicraft.level.tile.Tiles;
+import minicraft.saveload.SaveWriter;
+import minicraft.screen.WorldSelectDisplay;
+import minicraft.util.Logging;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Runs the game without a window, sound or keyboard, ticking as fast as it can, and reports how fast it goes.
+ * The player stands still at the spawn point, and is respawned whenever they die.
+ * Run it with "gradlew runHeadless", with the arguments in -Pargs="...":
+ * <ul>
+ *     <li>--ticks N: how many ticks to run; one game day by default.</li>
+ *     <li>--report N: how many ticks between each report; one game minute by default.</li>
+ *     <li>--size N, --seed N: the size and seed of the new world.</li>
+ *     <li>--world NAME: loads a world from the save directory instead of making a new one.</li>
+ * </ul>
+ * The arguments of the game itself, such as --savedir and the debug ones, work too. Nothing is ever saved.
+ */
+public class HeadlessRunner extends Game {
+	private HeadlessRunner() {}
+
+	private static final Map<Long, Long> allocated = new HashMap<>(); // The bytes allocated so far by each thread.
+
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		Thread.setDefaultUncaughtExceptionHandler(CrashHandler::crashHandle);
+		headless = true;
+
+		Initializer.parseArgs(args);
+
+		int ticks = Updater.dayLength;
+		int reportInterval = Updater.normSpeed * 60;
+		int size = 128;
+		OptionalLong seed = OptionalLong.empty();
+		String world = null;
+		for (int i = 0; i + 1 < args.length; i++) {
+			if (args[i].equalsIgnoreCase("--ticks")) {
+				ticks = Integer.parseInt(args[++i]);
+			} else if (args[i].equalsIgnoreCase("--report")) {
+				reportInterval = Integer.parseInt(args[++i]);
+			} else if (args[i].equalsIgnoreCase("--size")) {
+				size = Integer.parseInt(args[++i]);
+			} else if (args[i].equalsIgnoreCase("--seed")) {
+				seed = OptionalLong.of(Long.parseLong(args[++i]));
+			} else if (args[i].equalsIgnoreCase("--world")) {
+				world = args[++i];
+			}
+		}
+
+		input = new InputHandler(false);
+		Tiles.initTileList();
+
+		Settings.set("autosave", false);
+		Settings.set("size", size);
+		WorldSelectDisplay.setWorldName(world != null ? world : "headless", world != null);
+
+		World.resetGame();
+		player.eid = 0;
+
+		long start = System.nanoTime();
+		World.initWorld(seed);
+		Logging.GAMEHANDLER.info("World {} in {} ms, seed {}.", world != null ? "loaded" : "generated", (System.nanoTime() - start) / 1000000, World.getWorldSeed());
+
+		run(ticks, reportInterval);
+
+		SaveWriter.flush();
+		System.exit(0);
+	}
+
+	/** Ticks the game the given number of times, and reports how it went every so often, and at the end. */
+	private static void run(int ticks, int reportInterval) {
+		int deaths = 0;
+		long start = System.nanoTime();
+		long lastReport = start;
+		long allocatedAtStart = getAllocatedBytes();
+		long lastAllocated = allocatedAtStart;
+
+		for (int tick = 1; tick <= ticks; tick++) {
+			Updater.tick();
+
+			if (player.isRemoved()) { // Respawns right away, instead of waiting for the death menu.
+				deaths++;
+				World.resetGame();
+			}
+
+			if (!displayQuery.isEmpty()) { // Nobody is there to close any menus.
+				Logging.GAMEHANDLER.trace("Closing {}.", displayQuery.peekLast().getClass().getSimpleName());
+				setDisplay(null);
+			}
+
+			if (tick % reportInterval == 0 && tick < ticks) {
+				long now = System.nanoTime();
+				long allocatedNow = getAllocatedBytes();
+				report(tick, reportInterval, now - lastReport, allocatedNow - lastAllocated, deaths);
+				lastReport = now;
+				lastAllocated = allocatedNow;
+			}
+		}
+
+		Logging.GAMEHANDLER.info("Finished; overall:");
+		report(ticks, ticks, System.nanoTime() - start, getAllocatedBytes() - allocatedAtStart, deaths);
+	}
+
+	private static void report(int tick, int ticks, long nanos, long bytes, int deaths) {
+		double seconds = nanos / 1E9;
+		Logging.GAMEHANDLER.info("Tick {}: {} tps ({} ms/tick), {} MB/s allocated, {} deaths.", tick,
+			String.format("%.1f", ticks / seconds), String.format("%.3f", nanos / 1E6 / ticks),
+			bytes < 0 ? "?" : String.format("%.1f", bytes / seconds / (1 << 20)), deaths);
+
+		for (int i = 0; i < levels.length; i++) {
+			Level level = levels[i];
+			if (level == null) continue;
+			Entity[] entities = level.getEntityArray();
+			int mobs = 0;
+			for (Entity e : entities)
+				if (e instanceof Mob) mobs++;
+			Logging.GAMEHANDLER.info("  Level {}{}: {} entities, {} mobs.", level.depth, i == currentLevel ? " (current)" : "", entities.length, mobs);
+		}
+
+		for (EntityPool<?> pool : EntityPool.getPools())
+			Logging.GAMEHANDLER.info("  Pool {}.", pool);
+	}
+
+	/**
+	 * Returns the total bytes allocated by all threads so far, or -1 if the JVM can't tell.
+	 * Allocations by threads that ended since the last call are missed.
+	 */
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) return -1;
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return -1;
+
+		long[] ids = threads.getAllThreadIds();
+		long[] bytes = threads.getThreadAllocatedBytes(ids);
+		for (int i = 0; i < ids.length; i++)
+			if (bytes[i] >= 0) allocated.put(ids[i], bytes[i]);
+
+		long total = 0;
+		for (long b : allocated.values())
+			total += b;
+		return total;
+	}
+}
@@ -27,6 +27,7 @@ import java.awt.event.WindowListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
 
 public class Initializer extends Game {
 	private Initializer() {}
@@ -73,7 +74,7 @@ public class Initializer extends Game {
 	/** This is the main loop that runs the game. It:
 	 *	-keeps track of the amount of time that has passed
 	 *	-fires the ticks needed to run the game
-	 *	-fires the command to render out the screen.
+	 *	-fires the command to render out the screen, unless the "renderthread" setting is on, in which case the {@link RenderThread} does.
 	 */
 	static void run() {
 		long lastTick = System.nanoTime();
@@ -82,8 +83,15 @@ public class Initializer extends Game {
 		int frames = 0;
 		int ticks = 0;
 		long lastTimer1 = System.currentTimeMillis();
+		Profiler.setThread(Thread.currentThread());
+		boolean renderThread = RenderThread.isEnabled(); // Checked every second, as the loop runs far too often to look up the setting each time.
 
 		while (running) {
+			if (renderThread != RenderThread.isRunning()) {
+				if (renderThread) RenderThread.start();
+				else RenderThread.stop();
+			}
+
 			long now = System.nanoTime();
 			double nsPerTick = 1E9D / Updater.normSpeed; // Nanosecs per sec divided by ticks per sec = nanosecs per tick
 			if (currentDisplay == null) nsPerTick /= Updater.gamespeed;
@@ -91,27 +99,39 @@ public class Initializer extends Game {
 			lastTick = now;
 			while (unprocessed >= 1) { // If there is unprocessed time, then tick.
 				ticks++;
+				long time = Profiler.start();
 				Updater.tick(); // Calls the tick method (in which it calls the other tick methods throughout the code.
+				Profiler.TICK.end(time);
+				if (renderThread) RenderThread.publish(nsPerTick); // Records what the frames until the next tick show.
 				unprocessed--;
 			}
 
-			now = System.nanoTime();
-			if (now >= lastRender + 1E9D / MAX_FPS) {
-				frames++;
-				lastRender = now;
-				Renderer.render();
+			if (renderThread) { // Nothing else to do until the next tick.
+				LockSupport.parkNanos((long) ((1 - unprocessed) * nsPerTick));
+			} else {
+				now = System.nanoTime();
+				if (now >= lastRender + 1E9D / MAX_FPS) {
+					frames++;
+					lastRender = now;
+					long time = Profiler.start();
+					Renderer.render();
+					Profiler.RENDER.end(time);
+				}
 			}
 
 			if (System.currentTimeMillis() - lastTimer1 > 1000) { //updates every 1 second
 				long interval = System.currentTimeMillis() - lastTimer1;
 				lastTimer1 = System.currentTimeMillis(); // Adds a second to the timer
 
-				fra = (int) Math.round(frames * 1000D / interval); // Saves total frames in last second
+				if (!renderThread) fra = (int) Math.round(frames * 1000D / interval); // Saves total frames in last second; the render thread counts its own.
 				tik = (int) Math.round(ticks * 1000D / interval); // Saves total ticks in last second
 				frames = 0; // Resets frames
 				ticks = 0; // Resets ticks; ie, frames and ticks only are per second
+				renderThread = RenderThread.isEnabled();
 			}
 		}
+
+		RenderThread.stop();
 	}
 
 
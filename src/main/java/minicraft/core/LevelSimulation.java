@@ -0,0 +1,123 @@
+package minicraft.core;
+
+import minicraft.core.io.Settings;
+import minicraft.level.Level;
+import minicraft.util.Logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Ticks the levels the player is not on, on a pool of worker threads, so that farms, spawners and such
+ * keep going while the player is away, without adding their cost to the game thread.
+ * The rate is set by the "bgsim" setting. Also keeps track of how long each level takes to tick.
+ * Whatever the levels do that reaches beyond them, such as achievements and notifications, is put off with {@link #defer(Runnable)}
+ * until the game thread is done waiting for them; sounds from them are not played at all, as the player isn't there to hear them.
+ */
+public class LevelSimulation extends Game {
+	private LevelSimulation() {}
+
+	private static final int[] intervals = {0, 2, 4, 8}; // Ticks between each background tick, for each option of the setting. 0 means never.
+
+	private static ExecutorService workers = null;
+	private static final List<Future<?>> pending = new ArrayList<>();
+	private static final Queue<Runnable> deferred = new ConcurrentLinkedQueue<>(); // Actions put off until the levels are synced.
+	private static final ThreadLocal<Boolean> simulating = ThreadLocal.withInitial(() -> false);
+	private static int tickCounter = 0;
+
+	private static final long[] lastTickTimes = new long[6]; // The time the last tick of each level took, in nanoseconds.
+	private static final double[] avgTickTimes = new double[6]; // A moving average of the tick times of each level, in nanoseconds.
+
+	/** Returns the number of game ticks between each tick of the other levels, or 0 if they are not ticked at all. */
+	public static int getInterval() {
+		return intervals[Settings.getIdx("bgsim")];
+	}
+
+	/**
+	 * Starts ticking the levels the player is not on, if they are due this tick.
+	 * Must always be followed by {@link #sync()} before the levels are touched again.
+	 */
+	static void start() {
+		int interval = getInterval();
+		if (interval <= 0 || ++tickCounter < interval) return;
+		tickCounter = 0;
+
+		for (int i = 0; i < levels.length; i++) {
+			if (i == currentLevel || levels[i] == null) continue;
+			final int idx = i;
+			final Level level = levels[i];
+			pending.add(getWorkers().submit(() -> tick(idx, level)));
+		}
+	}
+
+	/** Waits for the background level ticks started in {@link #start()} to finish. */
+	static void sync() {
+		for (Future<?> task : pending) {
+			try {
+				task.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				CrashHandler.crashHandle(e.getCause());
+			}
+		}
+
+		pending.clear();
+
+		Runnable action;
+		while ((action = deferred.poll()) != null)
+			action.run();
+	}
+
+	/** Returns true if this is a thread ticking one of the levels the player is not on. */
+	public static boolean isSimulating() { return simulating.get(); }
+
+	/**
+	 * Puts the action off until the game thread has synced the levels, if this is a thread ticking one of the other levels.
+	 * Returns false if it isn't, in which case the action should be taken right away.
+	 */
+	public static boolean defer(Runnable action) {
+		if (!simulating.get()) return false;
+		deferred.add(action);
+		return true;
+	}
+
+	/** Ticks the level, and records how long it took. */
+	static void tick(int idx, Level level) {
+		long start = System.nanoTime();
+		level.tick(true);
+		long time = System.nanoTime() - start;
+
+		lastTickTimes[idx] = time;
+		avgTickTimes[idx] = avgTickTimes[idx] * 0.95 + time * 0.05;
+	}
+
+	/** Returns how long the last tick of the level at the given index took, in nanoseconds. */
+	public static long getLastTickTime(int idx) { return lastTickTimes[idx]; }
+
+	/** Returns the average time a tick of the level at the given index takes, in nanoseconds. */
+	public static double getAverageTickTime(int idx) { return avgTickTimes[idx]; }
+
+	private static ExecutorService getWorkers() {
+		if (workers == null) {
+			int threads = Math.max(1, Math.min(levels.length - 1, Runtime.getRuntime().availableProcessors() - 1));
+			Logging.WORLD.debug("Starting {} background level simulation threads.", threads);
+			workers = Executors.newFixedThreadPool(threads, r -> {
+				Thread thread = new Thread(() -> {
+					simulating.set(true);
+					r.run();
+				}, "Level Simulation");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		return workers;
+	}
+}
@@ -0,0 +1,169 @@
+package minicraft.core;
+
+import minicraft.util.Logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures how long the main parts of a tick and of a frame take, for the profiler overlay (F3-P).
+ * Each {@link Section} keeps its last {@link #SAMPLES} times, from which the overlay shows a rolling average,
+ * the 99th percentile and a histogram, and which can be exported to CSV (F3-C).
+ * Nothing is measured while the profiler is off, and only the game thread, and the render thread if there is one, are measured,
+ * so the levels ticked in the background don't get mixed up with the current one.
+ */
+public class Profiler {
+	private Profiler() {}
+
+	public static final int SAMPLES = 256; // About four seconds of ticks or frames.
+	public static final int BUCKETS = 12; // Histogram buckets; the first is for times under 16µs, and each one after is twice as wide.
+
+	private static final List<Section> sections = new ArrayList<>();
+
+	public static final Section TICK = new Section("Tick", 0);
+	public static final Section LEVEL_TICK = new Section("Levels", 1);
+	public static final Section ENTITY_ADDS = new Section("Adding", 2);
+	public static final Section TILE_TICKS = new Section("Tiles", 2);
+	public static final Section ENTITY_TICKS = new Section("Entities", 2);
+	public static final Section ENTITY_REMOVES = new Section("Removing", 2);
+	public static final Section RENDER = new Section("Render", 0);
+	public static final Section BACKGROUND = new Section("Background", 1);
+	public static final Section SPRITES = new Section("Sprites", 1);
+	public static final Section LIGHT = new Section("Light", 1);
+	public static final Section GUI = new Section("Gui", 1);
+
+	private static boolean enabled = false;
+	private static Thread thread = null; // The game thread.
+	private static volatile Thread renderThread = null; // The render thread, while there is one.
+
+	private static final long[] sorted = new long[SAMPLES]; // Scratch space for the percentiles.
+
+	public static List<Section> getSections() { return Collections.unmodifiableList(sections); }
+
+	public static boolean isEnabled() { return enabled; }
+
+	/** Turns the profiler on or off. It starts over with no samples every time it is turned on. */
+	public static void setEnabled(boolean enabled) {
+		if (enabled && !Profiler.enabled) {
+			for (Section section : sections)
+				section.clear();
+		}
+
+		Profiler.enabled = enabled;
+	}
+
+	/** Sets the thread to measure; the others are ignored. */
+	static void setThread(Thread thread) { Profiler.thread = thread; }
+
+	/** Sets the render thread, which is measured as well; or null once it stops. */
+	static void setRenderThread(Thread thread) { renderThread = thread; }
+
+	/**
+	 * Starts timing a section. The value returned is to be passed to {@link Section#end(long)} at the end of it;
+	 * it is 0 if nothing is to be measured, so the cost is a field read while the profiler is off.
+	 */
+	public static long start() {
+		if (!enabled) return 0;
+		Thread current = Thread.currentThread();
+		return current == thread || current == renderThread ? System.nanoTime() : 0;
+	}
+
+	/** Writes every sample of every section to a CSV file in the "profiler" folder, and returns that file. */
+	public static File export() throws IOException {
+		File dir = new File(Game.gameDir + "/profiler/");
+		dir.mkdirs();
+		String stamp = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now());
+		File file = new File(dir, stamp + ".csv");
+
+		try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+			writer.write("section,sample,nanoseconds");
+			writer.newLine();
+			for (Section section : sections) {
+				long[] times = section.getTimes();
+				for (int i = 0; i < times.length; i++) {
+					writer.write(section.name + "," + i + "," + times[i]);
+					writer.newLine();
+				}
+			}
+		}
+
+		Logging.GAMEHANDLER.info("Exported profiler data to {}.", file);
+		return file;
+	}
+
+	public static class Section {
+		public final String name;
+		public final int depth; // How deep it is nested in the other sections.
+
+		private final long[] times = new long[SAMPLES]; // A ring buffer of the last times, in nanoseconds.
+		private int next = 0;
+		private int count = 0;
+
+		private Section(String name, int depth) {
+			this.name = name;
+			this.depth = depth;
+			sections.add(this);
+		}
+
+		/** Ends the timing started by {@link Profiler#start()}. */
+		public void end(long start) {
+			if (start == 0) return;
+			times[next] = System.nanoTime() - start;
+			next = (next + 1) % SAMPLES;
+			if (count < SAMPLES) count++;
+		}
+
+		private void clear() {
+			next = 0;
+			count = 0;
+		}
+
+		/** Returns the samples, oldest first. */
+		public long[] getTimes() {
+			long[] result = new long[count];
+			int first = (next - count + SAMPLES) % SAMPLES;
+			for (int i = 0; i < count; i++)
+				result[i] = times[(first + i) % SAMPLES];
+			return result;
+		}
+
+		public int getCount() { return count; }
+
+		/** Returns the average of the samples, in nanoseconds. */
+		public double getAverage() {
+			if (count == 0) return 0;
+			long total = 0;
+			for (int i = 0; i < count; i++)
+				total += times[i];
+			return (double) total / count;
+		}
+
+		/** Returns the given percentile of the samples, in nanoseconds. Must be called from the thread rendering. */
+		public long getPercentile(double percentile) {
+			if (count == 0) return 0;
+			System.arraycopy(times, 0, sorted, 0, count);
+			Arrays.sort(sorted, 0, count);
+			return sorted[Math.min(count - 1, (int) Math.ceil(count * percentile / 100) - 1)];
+		}
+
+		/** Fills in how many samples fall in each of the {@link #BUCKETS} buckets, and returns the largest count. */
+		public int getHistogram(int[] buckets) {
+			Arrays.fill(buckets, 0, BUCKETS, 0);
+			int max = 0;
+			for (int i = 0; i < count; i++) {
+				int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(times[i] >> 14));
+				max = Math.max(max, ++buckets[bucket]);
+			}
+
+			return max;
+		}
+	}
+}
@@ -0,0 +1,295 @@
+package minicraft.core;
+
+import minicraft.entity.Entity;
+import minicraft.gfx.MinicraftImage;
+import minicraft.gfx.Point;
+import minicraft.gfx.Screen;
+import minicraft.level.Level;
+
+import java.util.Arrays;
+
+/**
+ * What the frames until the next tick show, as it was at the end of a tick, for the render thread to draw them from without reading the game while it is ticked.
+ * The entities around the player are kept as the sprites they rendered and the lights they gave off, along with where each of them was at the end
+ * of the tick and at the end of the tick before, so each frame draws them part of the way between the two, by how far the next tick is along;
+ * the camera follows the player, so it moves smoothly too. The GUI and the menu are kept rendered, in a layer put over the frame.
+ * The tiles are kept rendered too, onto a layer reaching as far past the edges of the screen as the camera can move in a tick,
+ * as the tiles, their data and the light map are changed by the game thread while a frame is drawn.
+ * Nothing in a snapshot changes once it is taken, but for the scratch space of the render thread.
+ */
+final class RenderSnapshot {
+	static final int EMPTY = Integer.MIN_VALUE; // The pixels of the GUI layer that nothing was rendered onto, through which the level shows.
+	private static final int MAX_STEP = 32; // Moves further than this in one tick are jumps, which aren't smoothed.
+
+	private final long time; // When it was taken, by System.nanoTime().
+	private final double tickLength; // The nanoseconds per tick at the time.
+	private final Layers layers;
+	private Level level = null; // The level shown, if any.
+	private int currentLevel;
+	private int terrainX, terrainY; // Where the terrain layer is in the level.
+
+	// The entities the sprites and lights belong to, with the player first, as the camera follows it.
+	// They are matched to those of the last snapshot by their id, which a pooled entity gets anew when it is added again.
+	private int count = 0;
+	private int[] eids = new int[16]; // The id of each entity, or -1 if it has none.
+	private int[] table = new int[64]; // The index of the entity with each id, plus one, by open addressing on the id; 0 where free.
+	private int[] xs = new int[16], ys = new int[16]; // The positions at the end of the tick.
+	private int[] lastXs = new int[16], lastYs = new int[16]; // The positions at the end of the tick before.
+	private int[] dxs, dys; // How far each entity is drawn from where it is, in the frame being drawn; only used by the render thread.
+
+	private final Recorder recorder = new Recorder();
+	private boolean dark = false; // Whether the level is dark where it isn't lit.
+	private int tint; // The tint of the pixels that aren't lit.
+
+	/** The layers a snapshot renders the tiles and the GUI onto, which the snapshots after it use again once it isn't drawn anymore. */
+	static final class Layers {
+		private final Screen gui = new Screen();
+		private final Screen terrain = new Screen(Screen.w + 2 * MAX_STEP, Screen.h + 2 * MAX_STEP);
+	}
+
+	private RenderSnapshot(double tickLength, Layers layers) {
+		time = System.nanoTime();
+		this.tickLength = tickLength;
+		this.layers = layers;
+	}
+
+	/**
+	 * Records what the current frame shows, following on from the last snapshot; the tiles and the GUI are rendered onto the given layers.
+	 * Called by the game thread, at the end of a tick.
+	 */
+	static RenderSnapshot capture(RenderSnapshot last, double tickLength, Layers layers) {
+		RenderSnapshot snapshot = new RenderSnapshot(tickLength, layers);
+		Level level = Game.levels[Game.currentLevel];
+		if (Renderer.readyToRenderGameplay && level != null)
+			snapshot.record(level, last != null && last.level == level ? last : null);
+
+		layers.gui.clear(EMPTY);
+		Renderer.renderInterface(layers.gui);
+		return snapshot;
+	}
+
+	/** Records the sprites and lights of the entities around the player, which are matched with those of the given snapshot, if any. */
+	private void record(Level level, RenderSnapshot last) {
+		this.level = level;
+		currentLevel = Game.currentLevel;
+		Point scroll = Renderer.getScroll(level, Game.player.x, Game.player.y);
+		index(Game.player, last);
+
+		terrainX = scroll.x - MAX_STEP;
+		terrainY = scroll.y - MAX_STEP;
+		layers.terrain.clear(EMPTY);
+		level.renderBackground(layers.terrain, terrainX, terrainY);
+
+		long time = Profiler.start();
+		for (Entity e : level.getSprites(scroll.x, scroll.y)) {
+			recorder.owner = index(e, last);
+			e.render(recorder);
+		}
+
+		recorder.owner = -1;
+		Profiler.SPRITES.end(time);
+
+		dark = Renderer.isDark();
+		if (dark) {
+			time = Profiler.start();
+			int brightness = Renderer.getLightBrightness();
+			for (Entity e : level.getLightSources(scroll.x, scroll.y)) {
+				recorder.owner = index(e, last);
+				Level.renderLight(recorder, e, brightness);
+			}
+
+			recorder.owner = -1;
+			level.renderTileLight(recorder, scroll.x, scroll.y, brightness);
+			tint = Screen.getOverlayTint(currentLevel);
+			Profiler.LIGHT.end(time);
+		}
+	}
+
+	/** Returns the index of the entity, adding it if it isn't there yet, along with where it was in the last snapshot. */
+	private int index(Entity e, RenderSnapshot last) {
+		int index = find(e.eid);
+		if (index >= 0) return index;
+
+		if (count == xs.length) {
+			xs = Arrays.copyOf(xs, count * 2);
+			ys = Arrays.copyOf(ys, count * 2);
+			lastXs = Arrays.copyOf(lastXs, count * 2);
+			lastYs = Arrays.copyOf(lastYs, count * 2);
+			eids = Arrays.copyOf(eids, count * 2);
+		}
+
+		int i = count++;
+		xs[i] = lastXs[i] = e.x;
+		ys[i] = lastYs[i] = e.y;
+		eids[i] = e.eid;
+		if (e.eid < 0) return i; // Can't be matched.
+
+		insert(i);
+		int before = last == null ? -1 : last.find(e.eid);
+		if (before >= 0 && Math.abs(last.xs[before] - e.x) <= MAX_STEP && Math.abs(last.ys[before] - e.y) <= MAX_STEP) {
+			lastXs[i] = last.xs[before];
+			lastYs[i] = last.ys[before];
+		}
+
+		return i;
+	}
+
+	private static int hash(int eid) {
+		int h = eid * 0x9E3779B9; // Fibonacci hashing spreads out consecutive ids.
+		return h ^ (h >>> 16);
+	}
+
+	/** Returns the index of the entity with the id, or -1 if there is none. */
+	private int find(int eid) {
+		if (eid < 0) return -1;
+		int mask = table.length - 1;
+		for (int slot = hash(eid) & mask; table[slot] != 0; slot = (slot + 1) & mask)
+			if (eids[table[slot] - 1] == eid)
+				return table[slot] - 1;
+		return -1;
+	}
+
+	/** Adds the entity at the index to the table, which is kept at most half full. */
+	private void insert(int index) {
+		if (count * 2 > table.length) {
+			int[] old = table;
+			table = new int[old.length * 2];
+			for (int entry : old)
+				if (entry != 0) place(entry);
+		}
+
+		place(index + 1);
+	}
+
+	private void place(int entry) {
+		int mask = table.length - 1;
+		int slot = hash(eids[entry - 1]) & mask;
+		while (table[slot] != 0)
+			slot = (slot + 1) & mask;
+		table[slot] = entry;
+	}
+
+	/** Returns the layers this was rendered onto, so they can be used again once this isn't drawn anymore. */
+	Layers getLayers() { return layers; }
+
+	/**
+	 * Draws the frame onto the screen, as it is at the given time, by System.nanoTime(); the light is worked out on the given light screen.
+	 * Called by the render thread; nothing that is ticked is read.
+	 */
+	void draw(Screen screen, Screen lightScreen, long now) {
+		if (level != null) {
+			double progress = Math.max(0, Math.min(1, (now - time) / tickLength)); // How far along the next tick is.
+			if (dxs == null) {
+				dxs = new int[count];
+				dys = new int[count];
+			}
+
+			for (int i = 0; i < count; i++) {
+				dxs[i] = (int) Math.round((lastXs[i] - xs[i]) * (1 - progress));
+				dys[i] = (int) Math.round((lastYs[i] - ys[i]) * (1 - progress));
+			}
+
+			Point scroll = Renderer.getScroll(level, xs[0] + dxs[0], ys[0] + dys[0]);
+			if (currentLevel > 3) Renderer.renderClouds(screen, scroll.x, scroll.y);
+			drawTerrain(screen, scroll.x - terrainX, scroll.y - terrainY);
+
+			screen.setOffset(scroll.x, scroll.y);
+			recorder.drawSprites(screen, dxs, dys);
+			screen.setOffset(0, 0);
+
+			if (dark) {
+				lightScreen.clear(0);
+				lightScreen.setOffset(scroll.x, scroll.y);
+				recorder.drawLights(lightScreen, dxs, dys);
+				lightScreen.setOffset(0, 0);
+				screen.overlay(lightScreen, tint, currentLevel < 3, scroll.x, scroll.y);
+			}
+		}
+
+		int[] pixels = screen.pixels, layer = layers.gui.pixels;
+		for (int i = 0; i < layer.length; i++) {
+			if (layer[i] != EMPTY) pixels[i] = layer[i];
+		}
+	}
+
+	/** Copies the part of the terrain layer at the given position in it onto the screen, but for the pixels no tile was rendered onto. */
+	private void drawTerrain(Screen screen, int x, int y) {
+		x = Math.max(0, Math.min(2 * MAX_STEP, x));
+		y = Math.max(0, Math.min(2 * MAX_STEP, y));
+		int[] pixels = screen.pixels, layer = layers.terrain.pixels;
+		int width = layers.terrain.getWidth();
+		for (int row = 0; row < Screen.h; row++) {
+			int from = x + (y + row) * width, to = row * Screen.w;
+			for (int col = 0; col < Screen.w; col++) {
+				int pixel = layer[from + col];
+				if (pixel != EMPTY) pixels[to + col] = pixel;
+			}
+		}
+	}
+
+	/** Records what is rendered onto it, in level coordinates, along with the entity rendering it, instead of rendering it. */
+	private static final class Recorder extends Screen {
+		private static final int SPRITE_FIELDS = 9; // owner, xp, yp, xt, yt, bits, whiteTint, fullbright, color
+		private static final int LIGHT_FIELDS = 4; // owner, x, y, r
+
+		private int owner = -1; // The index of the entity rendering, or -1 for none.
+		private int sprites = 0, lights = 0;
+		private int[] spriteData = new int[64 * SPRITE_FIELDS];
+		private MinicraftImage[] sheets = new MinicraftImage[64];
+		private int[] lightData = new int[16 * LIGHT_FIELDS];
+
+		private Recorder() { super(0, 0); }
+
+		@Override
+		public void render(int xp, int yp, int xt, int yt, int bits, MinicraftImage sheet, int whiteTint, boolean fullbright, int color) {
+			if (sheet == null) return;
+			if (sprites == sheets.length) {
+				sheets = Arrays.copyOf(sheets, sprites * 2);
+				spriteData = Arrays.copyOf(spriteData, sprites * 2 * SPRITE_FIELDS);
+			}
+
+			int i = sprites * SPRITE_FIELDS;
+			spriteData[i] = owner;
+			spriteData[i + 1] = xp;
+			spriteData[i + 2] = yp;
+			spriteData[i + 3] = xt;
+			spriteData[i + 4] = yt;
+			spriteData[i + 5] = bits;
+			spriteData[i + 6] = whiteTint;
+			spriteData[i + 7] = fullbright ? 1 : 0;
+			spriteData[i + 8] = color;
+			sheets[sprites++] = sheet;
+		}
+
+		@Override
+		public void renderLight(int x, int y, int r) {
+			if (lights * LIGHT_FIELDS == lightData.length)
+				lightData = Arrays.copyOf(lightData, lightData.length * 2);
+
+			int i = lights++ * LIGHT_FIELDS;
+			lightData[i] = owner;
+			lightData[i + 1] = x;
+			lightData[i + 2] = y;
+			lightData[i + 3] = r;
+		}
+
+		/** Renders the sprites onto the screen, each moved as far as its entity is. */
+		private void drawSprites(Screen screen, int[] dxs, int[] dys) {
+			for (int s = 0, i = 0; s < sprites; s++, i += SPRITE_FIELDS) {
+				int owner = spriteData[i];
+				int dx = owner < 0 ? 0 : dxs[owner], dy = owner < 0 ? 0 : dys[owner];
+				screen.render(spriteData[i + 1] + dx, spriteData[i + 2] + dy, spriteData[i + 3], spriteData[i + 4], spriteData[i + 5],
+					sheets[s], spriteData[i + 6], spriteData[i + 7] != 0, spriteData[i + 8]);
+			}
+		}
+
+		/** Renders the lights onto the light screen, each moved as far as its entity is. */
+		private void drawLights(Screen lightScreen, int[] dxs, int[] dys) {
+			for (int l = 0, i = 0; l < lights; l++, i += LIGHT_FIELDS) {
+				int owner = lightData[i];
+				int dx = owner < 0 ? 0 : dxs[owner], dy = owner < 0 ? 0 : dys[owner];
+				lightScreen.renderLight(lightData[i + 1] + dx, lightData[i + 2] + dy, lightData[i + 3]);
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package minicraft.core;
+
+import minicraft.core.io.Settings;
+import minicraft.gfx.Screen;
+import minicraft.util.Logging;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Renders the frames on a thread of their own when the "renderthread" setting is on, instead of between the ticks on the game thread.
+ * At the end of each tick, the game thread records what the frames until the next show in a {@link RenderSnapshot}: the sprites the entities
+ * around the player render and the lights they give off, and the tiles and the GUI and the menu, rendered onto layers of their own.
+ * The render thread draws each frame from the newest snapshot alone, while the next tick runs: the tiles, the recorded sprites and lights,
+ * moved part of the way from where they were in the tick before, by how far along the next tick is, and the GUI layer over them;
+ * then it scales the frame to the window and shows it. It doesn't read the level, nor anything else that is ticked, so the ticks don't wait on it.
+ */
+class RenderThread extends Game {
+	private RenderThread() {}
+
+	private static volatile Thread thread = null;
+	private static volatile boolean stopping = false;
+	private static final AtomicReference<RenderSnapshot> pending = new AtomicReference<>(); // The newest snapshot, until the render thread takes it.
+	private static RenderSnapshot last = null; // The snapshot taken last, which the next follows on from; only used by the game thread.
+	private static final ConcurrentLinkedQueue<RenderSnapshot.Layers> layers = new ConcurrentLinkedQueue<>(); // The layers of the snapshots done with.
+	private static final AtomicInteger screenshots = new AtomicInteger(); // The screenshots asked for, to take of the next frames.
+
+	/** Returns true if the setting is on, in which case the render thread should be running. */
+	static boolean isEnabled() { return (boolean) Settings.get("renderthread"); }
+
+	static boolean isRunning() { return thread != null; }
+
+	static void start() {
+		if (thread != null) return;
+		Logging.GAMEHANDLER.debug("Starting render thread.");
+		stopping = false;
+		thread = new Thread(RenderThread::run, "Render");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/** Stops the render thread, and waits for it to finish the frame it is on, so the game thread can render again. */
+	static void stop() {
+		if (thread == null) return;
+		Logging.GAMEHANDLER.debug("Stopping render thread.");
+		stopping = true;
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		thread = null;
+		pending.set(null);
+		last = null;
+		Updater.screenshot += screenshots.getAndSet(0);
+	}
+
+	/** Records what the frames until the next tick show. Called by the game thread, at the end of a tick. */
+	static void publish(double tickLength) {
+		if (Renderer.screen == null) return;
+
+		RenderSnapshot.Layers free = layers.poll();
+		if (free == null) free = new RenderSnapshot.Layers();
+		last = RenderSnapshot.capture(last, tickLength, free);
+		RenderSnapshot skipped = pending.getAndSet(last);
+		if (skipped != null) layers.add(skipped.getLayers()); // It was never drawn.
+
+		if (Updater.screenshot > 0) {
+			screenshots.incrementAndGet();
+			Updater.screenshot--;
+		}
+	}
+
+	private static void run() {
+		Profiler.setRenderThread(Thread.currentThread());
+		Screen lightScreen = new Screen();
+		RenderSnapshot current = null;
+		long lastRender = System.nanoTime();
+		int frames = 0;
+		long lastTimer = System.currentTimeMillis();
+
+		while (running && !stopping) {
+			long now = System.nanoTime();
+			long next = lastRender + (long) (1E9D / MAX_FPS);
+			if (now < next) {
+				LockSupport.parkNanos(next - now);
+				continue;
+			}
+
+			frames++;
+			lastRender = now;
+			long time = Profiler.start();
+			RenderSnapshot taken = pending.getAndSet(null);
+			if (taken != null) {
+				if (current != null) layers.add(current.getLayers());
+				current = taken;
+			}
+
+			if (current != null) current.draw(Renderer.screen, lightScreen, now);
+			Renderer.present();
+			if (screenshots.getAndUpdate(n -> Math.max(0, n - 1)) > 0) Renderer.takeScreenshot();
+			Profiler.RENDER.end(time);
+
+			if (System.currentTimeMillis() - lastTimer > 1000) {
+				long interval = System.currentTimeMillis() - lastTimer;
+				lastTimer = System.currentTimeMillis();
+				Initializer.fra = (int) Math.round(frames * 1000D / interval);
+				frames = 0;
+			}
+		}
+
+		Profiler.setRenderThread(null);
+	}
+}
@@ -3,6 +3,7 @@ package minicraft.core;
 import minicraft.core.CrashHandler.ErrorInfo;
 import minicraft.core.io.Localization;
 import minicraft.core.io.Settings;
+import minicraft.entity.EntityPool;
 import minicraft.entity.furniture.Bed;
 import minicraft.entity.mob.AirWizard;
 import minicraft.entity.mob.ObsidianKnight;
@@ -74,6 +75,7 @@ public class Renderer extends Game {
 
 	public static boolean readyToRenderGameplay = false;
 	public static boolean showDebugInfo = false;
+	public static boolean showProfiler = false;
 
 	private static Ellipsis ellipsis = new SmoothEllipsis(new TickUpdater());
 
@@ -115,23 +117,36 @@ public class Renderer extends Game {
 
 
 	/**
-	 * Renders the current screen. Called in game loop, a bit after tick().
+	 * Renders the current screen. Called in game loop, a bit after tick(), unless there is a render thread, which renders the frames instead.
 	 */
 	public static void render() {
 		if (screen == null) return; // No point in this if there's no gui... :P
+		if (RenderThread.isRunning()) return; // Such as when saving; the render thread has the screen.
 
-		if (readyToRenderGameplay) {
-			renderLevel();
-			if (player.renderGUI) renderGui();
+		if (readyToRenderGameplay) renderLevel();
+		renderInterface(screen);
+		present();
+
+		// Screen capturing.
+		if (Updater.screenshot > 0) {
+			takeScreenshot();
+			Updater.screenshot--;
 		}
+	}
+
+	/** Renders what goes over the level: the GUI, if shown, the menu, if present, and the "Click to focus" message, if needed. */
+	static void renderInterface(Screen screen) {
+		if (readyToRenderGameplay && player.renderGUI) renderGui(screen);
 
 		if (currentDisplay != null) // Renders menu, if present.
 			currentDisplay.render(screen);
 
 		if (!canvas.hasFocus())
-			renderFocusNagger(); // Calls the renderFocusNagger() method, which creates the "Click to Focus" message.
-
+			renderFocusNagger(screen); // Calls the renderFocusNagger() method, which creates the "Click to Focus" message.
+	}
 
+	/** Shows the frame rendered last on the window. */
+	static synchronized void present() {
 		BufferStrategy bs = canvas.getBufferStrategy(); // Creates a buffer strategy to determine how the graphics should be buffered.
 		Graphics g = bs.getDrawGraphics(); // Gets the graphics in which java draws the picture
 		g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight()); // Draws a rect to fill the whole window (to cover last?)
@@ -152,39 +167,37 @@ public class Renderer extends Game {
 
 		// Make the picture visible.
 		bs.show();
+	}
 
-		// Screen capturing.
-		if (Updater.screenshot > 0) {
-			new File(Game.gameDir + "/screenshots/").mkdirs();
-			int count = 1;
-			LocalDateTime datetime = LocalDateTime.now();
-			String stamp = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(datetime);
-			File file = new File(String.format("%s/screenshots/%s.png", Game.gameDir, stamp));
-			while (file.exists()) {
-				file = new File(String.format("%s/screenshots/%s_%s.png", Game.gameDir, stamp, count));
-				count++;
-			}
-
-			try { // https://stackoverflow.com/a/4216635
-				int w = image.getWidth();
-				int h = image.getHeight();
-				BufferedImage before = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
-				before.getRaster().setRect(image.getData());
-				int scale = (Integer) Settings.get("screenshot");
-				// BufferedImage after = BigBufferedImage.create(scale * w, scale * h, BufferedImage.TYPE_INT_RGB);
-				AffineTransform at = new AffineTransform();
-				at.scale(scale, scale); // Setting the scaling.
-				AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BICUBIC);
-
-				// Use this solution without larger scales which use up a lot memory.
-				// With scale 20, up to around 360MB overall RAM use.
-				BufferedImage after = scaleOp.filter(before, null);
-				ImageIO.write(after, "png", file);
-			} catch (IOException e) {
-				CrashHandler.errorHandle(e);
-			}
+	/** Saves the frame shown last to the "screenshots" folder. */
+	static void takeScreenshot() {
+		new File(Game.gameDir + "/screenshots/").mkdirs();
+		int count = 1;
+		LocalDateTime datetime = LocalDateTime.now();
+		String stamp = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(datetime);
+		File file = new File(String.format("%s/screenshots/%s.png", Game.gameDir, stamp));
+		while (file.exists()) {
+			file = new File(String.format("%s/screenshots/%s_%s.png", Game.gameDir, stamp, count));
+			count++;
+		}
 
-			Updater.screenshot--;
+		try { // https://stackoverflow.com/a/4216635
+			int w = image.getWidth();
+			int h = image.getHeight();
+			BufferedImage before = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+			before.getRaster().setRect(image.getData());
+			int scale = (Integer) Settings.get("screenshot");
+			// BufferedImage after = BigBufferedImage.create(scale * w, scale * h, BufferedImage.TYPE_INT_RGB);
+			AffineTransform at = new AffineTransform();
+			at.scale(scale, scale); // Setting the scaling.
+			AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BICUBIC);
+
+			// Use this solution without larger scales which use up a lot memory.
+			// With scale 20, up to around 360MB overall RAM use.
+			BufferedImage after = scaleOp.filter(before, null);
+			ImageIO.write(after, "png", file);
+		} catch (IOException e) {
+			CrashHandler.errorHandle(e);
 		}
 	}
 
@@ -193,40 +206,61 @@ public class Renderer extends Game {
 		Level level = levels[currentLevel];
 		if (level == null) return;
 
-		int xScroll = player.x - Screen.w / 2; // Scrolls the screen in the x axis.
-		int yScroll = player.y - (Screen.h - 8) / 2; // Scrolls the screen in the y axis.
-
-		// Stop scrolling if the screen is at the ...
-		if (xScroll < 0) xScroll = 0; // ...Left border.
-		if (yScroll < 0) yScroll = 0; // ...Top border.
-		if (xScroll > level.w * 16 - Screen.w) xScroll = level.w * 16 - Screen.w; // ...Right border.
-		if (yScroll > level.h * 16 - Screen.h) yScroll = level.h * 16 - Screen.h; // ...Bottom border.
-		if (currentLevel > 3) { // If the current level is higher than 3 (which only the sky level (and dungeon) is)
-			MinicraftImage cloud = spriteLinker.getSheet(SpriteType.Tile, "cloud_background");
-			for (int y = 0; y < 28; y++)
-				for (int x = 0; x < 48; x++) {
-					// Creates the background for the sky (and dungeon) level:
-					screen.render(x * 8 - ((xScroll / 4) & 7), y * 8 - ((yScroll / 4) & 7), 0, 0, 0, cloud);
-				}
-		}
+		Point scroll = getScroll(level, player.x, player.y);
+		int xScroll = scroll.x, yScroll = scroll.y;
+		if (currentLevel > 3) renderClouds(screen, xScroll, yScroll);
 
 		level.renderBackground(screen, xScroll, yScroll); // Renders current level background
 		level.renderSprites(screen, xScroll, yScroll); // Renders level sprites on screen
 
 		// This creates the darkness in the caves
-		if ((currentLevel != 3 || Updater.tickCount < Updater.dayLength / 4 || Updater.tickCount > Updater.dayLength / 2) && !isMode("minicraft.settings.mode.creative")) {
+		if (isDark()) {
 			lightScreen.clear(0); // This doesn't mean that the pixel will be black; it means that the pixel will be DARK, by default; lightScreen is about light vs. dark, not necessarily a color. The light level it has is compared with the minimum light values in dither to decide whether to leave the cell alone, or mark it as "dark", which will do different things depending on the game level and time of day.
-			int brightnessMultiplier = player.potioneffects.containsKey(PotionType.Light) ? 12 : 8; // Brightens all light sources by a factor of 1.5 when the player has the Light potion effect. (8 above is normal)
-			level.renderLight(lightScreen, xScroll, yScroll, brightnessMultiplier); // Finds (and renders) all the light from objects (like the player, lanterns, and lava).
+			level.renderLight(lightScreen, xScroll, yScroll, getLightBrightness()); // Finds (and renders) all the light from objects (like the player, lanterns, and lava).
 			screen.overlay(lightScreen, currentLevel, xScroll, yScroll); // Overlays the light screen over the main screen.
 		}
 	}
 
+	/** Returns where the screen is scrolled to on the level, with the given position, that of the player, in the middle where possible. */
+	static Point getScroll(Level level, int x, int y) {
+		int xScroll = x - Screen.w / 2; // Scrolls the screen in the x axis.
+		int yScroll = y - (Screen.h - 8) / 2; // Scrolls the screen in the y axis.
+
+		// Stop scrolling if the screen is at the ...
+		if (xScroll < 0) xScroll = 0; // ...Left border.
+		if (yScroll < 0) yScroll = 0; // ...Top border.
+		if (xScroll > level.w * 16 - Screen.w) xScroll = level.w * 16 - Screen.w; // ...Right border.
+		if (yScroll > level.h * 16 - Screen.h) yScroll = level.h * 16 - Screen.h; // ...Bottom border.
+		return new Point(xScroll, yScroll);
+	}
+
+	/** Renders the background of the sky (and dungeon) level, which is seen through the holes in it. */
+	static void renderClouds(Screen screen, int xScroll, int yScroll) {
+		MinicraftImage cloud = spriteLinker.getSheet(SpriteType.Tile, "cloud_background");
+		for (int y = 0; y < 28; y++)
+			for (int x = 0; x < 48; x++) {
+				// Creates the background for the sky (and dungeon) level:
+				screen.render(x * 8 - ((xScroll / 4) & 7), y * 8 - ((yScroll / 4) & 7), 0, 0, 0, cloud);
+			}
+	}
+
+	/** Returns true if the level being rendered is dark where it isn't lit, as it is in the caves and at night. */
+	static boolean isDark() {
+		return (currentLevel != 3 || Updater.tickCount < Updater.dayLength / 4 || Updater.tickCount > Updater.dayLength / 2) && !isMode("minicraft.settings.mode.creative");
+	}
+
+	/** Returns how far lights reach; they reach a factor of 1.5 further when the player has the Light potion effect. (8 is normal) */
+	static int getLightBrightness() {
+		return player.potioneffects.containsKey(PotionType.Light) ? 12 : 8;
+	}
+
 
 	/**
 	 * Renders the main game GUI (hearts, Stamina bolts, name of the current item, etc.)
 	 */
-	private static void renderGui() {
+	private static void renderGui(Screen screen) {
+		long time = Profiler.start();
+
 		// This draws the black square where the selected item would be if you were holding it
 		if (!isMode("minicraft.settings.mode.creative") || player.activeItem != null) {
 			for (int x = 10; x < 26; x++) {
@@ -408,19 +442,22 @@ public class Renderer extends Game {
 		if (!player.isRemoved()) {
 			if (AirWizard.active && (player.getLevel().depth == 1)) {
 				AirWizard boss = AirWizard.entity;
-				renderBossbar((int) ((((float) boss.health) / boss.maxHealth) * 100), "Air wizard");
+				renderBossbar(screen, (int) ((((float) boss.health) / boss.maxHealth) * 100), "Air wizard");
 			} else if (ObsidianKnight.active && (player.getLevel().depth == -4)) {
 				ObsidianKnight boss = ObsidianKnight.entity;
-				renderBossbar((int) ((((float) boss.health) / boss.maxHealth) * 100), "Obsidian Knight");
+				renderBossbar(screen, (int) ((((float) boss.health) / boss.maxHealth) * 100), "Obsidian Knight");
 			}
 		}
 
 		TutorialDisplayHandler.render(screen);
-		renderQuestsDisplay();
-		renderDebugInfo();
+		renderQuestsDisplay(screen);
+		Profiler.GUI.end(time);
+
+		if (showProfiler) renderProfiler(screen);
+		else renderDebugInfo(screen);
 	}
 
-	public static void renderBossbar(int length, String title) {
+	public static void renderBossbar(Screen screen, int length, String title) {
 
 		int x = Screen.w / 4 - 24;
 		int y = Screen.h / 8 - 24;
@@ -452,7 +489,7 @@ public class Renderer extends Game {
 		Font.drawCentered(title, screen, y + 8, Color.WHITE);
 	}
 
-	private static void renderQuestsDisplay() {
+	private static void renderQuestsDisplay(Screen screen) {
 		if (!TutorialDisplayHandler.inQuests()) return;
 		if (!(boolean) Settings.get("showquests")) return;
 
@@ -485,7 +522,7 @@ public class Renderer extends Game {
 		}
 	}
 
-	private static void renderDebugInfo() {
+	private static void renderDebugInfo(Screen screen) {
 		// Should not localize debug info.
 
 		int textcol = Color.WHITE;
@@ -506,6 +543,22 @@ public class Renderer extends Game {
 
 			if (levels[currentLevel] != null) {
 				info.add("Mob Cnt: " + levels[currentLevel].mobCount + "/" + levels[currentLevel].maxMobCount);
+				info.add("Dormant: " + levels[currentLevel].dormantCount);
+				info.add("Spawn tiles: " + levels[currentLevel].getSpawnTileCount());
+				info.add(String.format("Lvl tick: %.2fms", LevelSimulation.getAverageTickTime(currentLevel) / 1E6));
+				info.add("Tile ticks: " + levels[currentLevel].getScheduledTickCount() + ", tasks: " + levels[currentLevel].getScheduledTaskCount());
+				info.add("Fluid cells: " + levels[currentLevel].getActiveFluidCount());
+				if (LevelSimulation.getInterval() > 0) {
+					double others = 0;
+					for (int i = 0; i < levels.length; i++)
+						if (i != currentLevel) others += LevelSimulation.getAverageTickTime(i);
+					info.add(String.format("Bg tick: %.2fms /%d", others / 1E6, LevelSimulation.getInterval()));
+				}
+
+				StringBuilder pools = new StringBuilder("Pooled:");
+				for (EntityPool<?> pool : EntityPool.getPools())
+					pools.append(" ").append(pool.getSize()).append(" ").append(pool.name);
+				info.add(pools.toString());
 			}
 
 			// Displays number of chests left, if on dungeon level.
@@ -533,10 +586,43 @@ public class Renderer extends Game {
 		}
 	}
 
+	/**
+	 * Renders the profiler: the average and 99th percentile time of each section, in milliseconds,
+	 * and a histogram of its times, from under 16µs on the left to over 16ms on the right.
+	 */
+	private static void renderProfiler(Screen screen) {
+		// Should not localize debug info.
+		int y = 2;
+		Font.drawBackground(String.format("%-12s%6s%6s", "F3-C: CSV", "avg", "p99"), screen, 2, y);
+
+		int[] buckets = new int[Profiler.BUCKETS];
+		for (Profiler.Section section : Profiler.getSections()) {
+			y += 8;
+			StringBuilder name = new StringBuilder();
+			for (int i = 0; i < section.depth; i++) name.append(' ');
+			name.append(section.name);
+			Font.drawBackground(String.format("%-12s%6.2f%6.2f", name, section.getAverage() / 1E6, section.getPercentile(99) / 1E6), screen, 2, y);
+
+			// Draws the histogram, as bars scaled to the largest bucket.
+			int max = section.getHistogram(buckets);
+			int x0 = 2 + 24 * 8;
+			for (int x = 0; x < Profiler.BUCKETS * 2 + 2; x++)
+				for (int yy = 0; yy < 8; yy++)
+					screen.pixels[(x0 + x) + (y + yy) * Screen.w] = Color.BLACK;
+			for (int i = 0; i < Profiler.BUCKETS && max > 0; i++) {
+				int height = (buckets[i] * 7 + max - 1) / max; // Any bucket with samples gets at least a pixel.
+				int col = i < Profiler.BUCKETS - 2 ? Color.GREEN : i < Profiler.BUCKETS - 1 ? Color.YELLOW : Color.RED;
+				for (int yy = 8 - height; yy < 8; yy++) {
+					screen.pixels[(x0 + 1 + i * 2) + (y + yy) * Screen.w] = col;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Renders the "Click to focus" box when you click off the screen.
 	 */
-	private static void renderFocusNagger() {
+	private static void renderFocusNagger(Screen screen) {
 
 		String msg = "Click to focus!"; // The message when you click off the screen.
 
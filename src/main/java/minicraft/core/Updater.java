@@ -8,6 +8,7 @@ import minicraft.level.Level;
 import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 import minicraft.saveload.Save;
+import minicraft.saveload.SaveWriter;
 import minicraft.screen.Display;
 import minicraft.screen.EndGameDisplay;
 import minicraft.screen.LevelTransitionDisplay;
@@ -18,6 +19,7 @@ import minicraft.util.AdvancementElement;
 import minicraft.util.Logging;
 
 import java.awt.GraphicsDevice;
+import java.io.IOException;
 
 public class Updater extends Game {
 	private Updater() {}
@@ -147,6 +149,8 @@ public class Updater extends Game {
 			}
 		}
 
+		SaveWriter.tick(); // Reports saves that have finished writing.
+
 		// Auto-save tick; marks when to do autosave.
 		if(!paused)
 			asTick++;
@@ -176,10 +180,11 @@ public class Updater extends Game {
 		if (updateNoteTick) notetick++;
 
 		// This is the general action statement thing! Regulates menus, mostly.
-		if (!Renderer.canvas.hasFocus()) {
+		boolean hasFocus = headless || Renderer.canvas.hasFocus();
+		if (!hasFocus) {
 			input.releaseAll();
 		}
-		if (Renderer.canvas.hasFocus()) {
+		if (hasFocus) {
 			gameTime++;
 
 			input.tick(); // INPUT TICK; no other class should call this, I think...especially the *Menu classes.
@@ -211,8 +216,12 @@ public class Updater extends Game {
 				player.tick(); // Ticks the player when there's no menu.
 
 				if (level != null) {
-					level.tick(true);
+					long time = Profiler.start();
+					LevelSimulation.start(); // The other levels are ticked alongside the current one.
+					LevelSimulation.tick(currentLevel, level);
+					LevelSimulation.sync();
 					Tile.tickCount++;
+					Profiler.LEVEL_TICK.end(time);
 				}
 
 				if (currentDisplay == null && input.getKey("F3").clicked) { // Shows debug info in upper-left
@@ -221,6 +230,18 @@ public class Updater extends Game {
 
 				// For debugging only
 				{
+					if (input.getKey("F3-P").clicked) {
+						Renderer.showProfiler = !Renderer.showProfiler;
+						Profiler.setEnabled(Renderer.showProfiler);
+					}
+					if (input.getKey("F3-C").clicked && Renderer.showProfiler) {
+						try {
+							notifyAll("Profiler data saved to " + Profiler.export().getName());
+						} catch (IOException e) {
+							CrashHandler.errorHandle(e);
+						}
+					}
+
 					if (input.getKey("F3-L").clicked) {
 						// Print all players on all levels, and their coordinates.
 						Logging.WORLD.info("Printing players on all levels.");
@@ -278,10 +299,10 @@ public class Updater extends Game {
 					if (input.getKey("F3-M-minus").clicked && player.moveSpeed > 1) player.moveSpeed--; // -= 0.5D;
 
 					if (input.getKey("F3-u").clicked) {
-						levels[currentLevel].setTile(player.x>>4, player.y>>4, Tiles.get("Stairs Up"));
+						levels[currentLevel].setTile(player.x>>4, player.y>>4, Tiles.STAIRS_UP);
 					}
 					if (input.getKey("F3-d").clicked) {
-						levels[currentLevel].setTile(player.x>>4, player.y>>4, Tiles.get("Stairs Down"));
+						levels[currentLevel].setTile(player.x>>4, player.y>>4, Tiles.STAIRS_DOWN);
 					}
 				} // End debug only cond.
 			} // End "menu-null" conditional
@@ -327,8 +348,8 @@ public class Updater extends Game {
 		notifyAll(msg, 0);
 	}
 	public static void notifyAll(String msg, int notetick) {
-		msg = Localization.getLocalized(msg);
-		notifications.add(msg);
+		if (LevelSimulation.defer(() -> notifyAll(msg, notetick))) return; // Notifications are only touched on the game thread.
+		notifications.add(Localization.getLocalized(msg));
 		Updater.notetick = notetick;
 	}
 }
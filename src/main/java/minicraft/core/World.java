@@ -1,9 +1,11 @@
 package minicraft.core;
 
 import minicraft.core.io.Settings;
+import minicraft.entity.EntityRegistry;
 import minicraft.entity.furniture.Bed;
 import minicraft.entity.mob.Player;
 import minicraft.level.Level;
+import minicraft.level.LevelGen;
 import minicraft.network.Analytics;
 import minicraft.saveload.Load;
 import minicraft.screen.AchievementsDisplay;
@@ -19,7 +21,12 @@ import minicraft.util.Logging;
 import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class World extends Game {
 	private World() {}
@@ -94,7 +101,9 @@ public class World extends Game {
 	/** This method is used to create a brand new world, or to load an existing one from a file.
 	 * For the loading screen updates to work, it it assumed that *this* is called by a thread *other* than the one rendering the current *menu*.
 	 **/
-	public static void initWorld() { // This is a full reset; everything.
+	public static void initWorld() { initWorld(WorldGenDisplay.getSeed()); }
+	/** @param newSeed The seed of the world, if a new one is made; a random one if empty. */
+	static void initWorld(OptionalLong newSeed) { // This is a full reset; everything.
 		Logging.WORLD.debug("Resetting world...");
 
 		PlayerDeathDisplay.shouldRespawn = false;
@@ -109,6 +118,7 @@ public class World extends Game {
 		gameOver = false;
 
 		levels = new Level[6];
+		EntityRegistry.clear();
 
 		Updater.scoreTime = (Integer) Settings.get("scoretime") * 60 * Updater.normSpeed;
 
@@ -121,13 +131,24 @@ public class World extends Game {
 		if (WorldSelectDisplay.hasLoadedWorld()) {
 			new Load(WorldSelectDisplay.getWorldName());
 		} else {
-			Analytics.WorldCreation.ping();
+			if (!headless) Analytics.WorldCreation.ping(); // Test runs aren't real worlds.
 
 			worldSize = (Integer) Settings.get("size");
 
-			seed = WorldGenDisplay.getSeed().orElse(new Random().nextLong());
+			seed = newSeed.orElse(new Random().nextLong());
 			random = new Random(seed);
 
+			// The maps don't depend on each other, so they are all generated at once; only the levels themselves have to be made in order.
+			long[] seeds = new long[levels.length];
+			List<ForkJoinTask<short[][]>> maps = new ArrayList<>();
+			for (int i = maxLevelDepth; i >= minLevelDepth; i--) {
+				final int depth = i;
+				final long levelSeed = random.nextLong();
+				seeds[lvlIdx(i)] = levelSeed;
+				final int size = worldSize;
+				maps.add(ForkJoinPool.commonPool().submit(() -> LevelGen.createAndValidateMap(size, size, depth, levelSeed)));
+			}
+
 			float loadingInc = 100f / (maxLevelDepth - minLevelDepth + 1); // The .002 is for floating point errors, in case they occur.
 			for (int i = maxLevelDepth; i >= minLevelDepth; i--) {
 				// i = level depth; the array starts from the top because the parent level is used as a reference, so it should be constructed first. It is expected that the highest level will have a null parent.
@@ -135,7 +156,7 @@ public class World extends Game {
 				Logging.WORLD.trace("Generating level " + i + "...");
 
 				LoadingDisplay.setMessage(Level.getDepthString(i));
-				levels[lvlIdx(i)] = new Level(worldSize, worldSize, random.nextLong(), i, levels[lvlIdx(i+1)], !WorldSelectDisplay.hasLoadedWorld());
+				levels[lvlIdx(i)] = new Level(worldSize, worldSize, seeds[lvlIdx(i)], i, levels[lvlIdx(i+1)], maps.get(maxLevelDepth - i).join());
 
 				LoadingDisplay.progress(loadingInc);
 			}
@@ -90,7 +90,12 @@ public class InputHandler implements KeyListener {
 
 	private final LastInputActivityListener lastInputActivityListener = new LastInputActivityListener();
 
-	public InputHandler() {
+	public InputHandler() { this(true); }
+	/**
+	 * @param devices Whether to look for controllers and watch for input activity.
+	 * The headless runner has no input at all, so it doesn't need the native controller library or the watcher thread.
+	 */
+	public InputHandler(boolean devices) {
 		keymap = new LinkedHashMap<>(); // Stores custom key name with physical key name in keyboard.
 		keyboard = new HashMap<>(); // Stores physical keyboard keys; auto-generated :D
 
@@ -106,6 +111,8 @@ public class InputHandler implements KeyListener {
 		keyboard.put("CTRL", new Key(true));
 		keyboard.put("ALT", new Key(true));
 
+		if (!devices) return;
+
 		controllerManager.initSDLGamepad();
 		controllerIndex = controllerManager.getControllerIndex(0);
 		controllerManager.update();
@@ -208,15 +215,17 @@ public class InputHandler implements KeyListener {
 		}
 
 		// Also update the controller button state.
-		for (ControllerButton btn : ControllerButton.values()) {
-			try {
-				controllerButtonBooleanMapJust.put(btn, controllerIndex.isButtonJustPressed(btn));
-			} catch (ControllerUnpluggedException e) {
-				controllerButtonBooleanMapJust.put(btn, false);
-			} try {
-				controllerButtonBooleanMap.put(btn, controllerIndex.isButtonPressed(btn));
-			} catch (ControllerUnpluggedException e) {
-				controllerButtonBooleanMap.put(btn, false);
+		if (controllerIndex != null) {
+			for (ControllerButton btn : ControllerButton.values()) {
+				try {
+					controllerButtonBooleanMapJust.put(btn, controllerIndex.isButtonJustPressed(btn));
+				} catch (ControllerUnpluggedException e) {
+					controllerButtonBooleanMapJust.put(btn, false);
+				} try {
+					controllerButtonBooleanMap.put(btn, controllerIndex.isButtonPressed(btn));
+				} catch (ControllerUnpluggedException e) {
+					controllerButtonBooleanMap.put(btn, false);
+				}
 			}
 		}
 
@@ -557,7 +566,7 @@ public class InputHandler implements KeyListener {
 	}
 
 	public boolean anyControllerConnected() {
-		return controllerManager.getNumControllers() > 0;
+		return controllerIndex != null && controllerManager.getNumControllers() > 0;
 	}
 
 	public boolean buttonPressed(ControllerButton button) {
@@ -599,6 +608,7 @@ public class InputHandler implements KeyListener {
 	 * @return Whether or not the controller was able to be vibrated (i.e. if haptics are supported) or controller not connected.
 	 */
 	public boolean controllerVibration(float leftMagnitude, float rightMagnitude, int duration_ms) {
+		if (controllerIndex == null) return false;
 		try {
 			return controllerIndex.doVibration(leftMagnitude, rightMagnitude, duration_ms);
 		} catch (ControllerUnpluggedException ignored) {
@@ -611,7 +621,7 @@ public class InputHandler implements KeyListener {
 
 	public boolean leftTriggerPressed() {
 		try {
-			if (leftTriggerCooldown == 0 && controllerIndex.getAxisState(ControllerAxis.TRIGGERLEFT) > 0.5) {
+			if (leftTriggerCooldown == 0 && controllerIndex != null && controllerIndex.getAxisState(ControllerAxis.TRIGGERLEFT) > 0.5) {
 				leftTriggerCooldown = 8;
 				return true;
 			} else
@@ -622,7 +632,7 @@ public class InputHandler implements KeyListener {
 	}
 	public boolean rightTriggerPressed() {
 		try {
-			if (rightTriggerCooldown == 0 && controllerIndex.getAxisState(ControllerAxis.TRIGGERRIGHT) > 0.5) {
+			if (rightTriggerCooldown == 0 && controllerIndex != null && controllerIndex.getAxisState(ControllerAxis.TRIGGERRIGHT) > 0.5) {
 				rightTriggerCooldown = 8;
 				return true;
 			} else
@@ -13,6 +13,7 @@ public final class Settings {
 
 	static {
 		options.put("fps", new RangeEntry("minicraft.settings.fps", 10, 300, getDefaultRefreshRate())); // Has to check if the game is running in a headless mode. If it doesn't set the fps to 60
+		options.put("renderthread", new BooleanEntry("minicraft.settings.render_thread", false));
 		options.put("screenshot", new ArrayEntry<>("minicraft.settings.screenshot_scale", 1, 2, 5, 10, 15, 20)); // The magnification of screenshot. I would want to see ultimate sized.
 		options.put("diff", new ArrayEntry<>("minicraft.settings.difficulty", "minicraft.settings.difficulty.easy", "minicraft.settings.difficulty.normal", "minicraft.settings.difficulty.hard"));
 		options.get("diff").setSelection(1);
@@ -24,6 +25,11 @@ public final class Settings {
 
 		options.put("sound", new BooleanEntry("minicraft.settings.sound", true));
 		options.put("autosave", new BooleanEntry("minicraft.settings.autosave", true));
+		options.put("bgsim", new ArrayEntry<>("minicraft.settings.background_simulation", "minicraft.settings.background_simulation.off",
+			"minicraft.settings.background_simulation.half", "minicraft.settings.background_simulation.quarter", "minicraft.settings.background_simulation.eighth"));
+		options.put("simdist", new ArrayEntry<>("minicraft.settings.simulation_distance", "minicraft.settings.simulation_distance.everywhere",
+			"minicraft.settings.simulation_distance.far", "minicraft.settings.simulation_distance.normal", "minicraft.settings.simulation_distance.near"));
+		options.get("simdist").setSelection(2);
 
 		options.put("size", new ArrayEntry<>("minicraft.settings.size", 128, 256, 512));
 		options.put("theme", new ArrayEntry<>("minicraft.settings.theme", "minicraft.settings.theme.normal", "minicraft.settings.theme.forest", "minicraft.settings.theme.desert", "minicraft.settings.theme.plain", "minicraft.settings.theme.hell"));
@@ -1,6 +1,7 @@
 package minicraft.core.io;
 
 import minicraft.core.CrashHandler;
+import minicraft.core.LevelSimulation;
 import minicraft.util.Logging;
 import org.jetbrains.annotations.Nullable;
 
@@ -91,12 +92,14 @@ public class Sound {
 
 	/** This method does safe check for {@link #play()}. */
 	public static void play(String key) {
+		if (LevelSimulation.isSimulating()) return; // Levels the player isn't on can't be heard.
 		Sound sound = sounds.get(key);
 		if (sound != null) sound.play();
 	}
 
 	/** This method does safe check for {@link #loop(boolean)}. */
 	public static void loop(String key, boolean start) {
+		if (LevelSimulation.isSimulating()) return;
 		Sound sound = sounds.get(key);
 		if (sound != null) sound.loop(start);
 	}
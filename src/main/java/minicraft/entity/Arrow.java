@@ -14,17 +14,33 @@ import javax.security.auth.DestroyFailedException;
 import java.util.List;
 
 public class Arrow extends Entity implements ClientTickable {
+	private static final EntityPool<Arrow> pool = new EntityPool<>("Arrow", 64, Arrow::new);
+
 	private Direction dir;
 	private int damage;
 	public Mob owner;
 	private int speed;
-	private LinkedSprite sprite = new LinkedSprite(SpriteType.Entity, "arrow").setSpriteSize(1, 1);
+	private final LinkedSprite sprite = new LinkedSprite(SpriteType.Entity, "arrow").setSpriteSize(1, 1);
+
+	private Arrow() { super(1, 1); }
 
 	public Arrow(Mob owner, Direction dir, int dmg) {
 		this(owner, owner.x, owner.y, dir, dmg);
 	}
 	public Arrow(Mob owner, int x, int y, Direction dir, int dmg) {
-		super(Math.abs(dir.getX())+1, Math.abs(dir.getY())+1);
+		this();
+		init(owner, x, y, dir, dmg);
+	}
+
+	/** Same as the constructor, but reuses an arrow that was removed, if there is one. */
+	public static Arrow get(Mob owner, Direction dir, int dmg) {
+		Arrow arrow = pool.acquire();
+		arrow.init(owner, owner.x, owner.y, dir, dmg);
+		return arrow;
+	}
+
+	private void init(Mob owner, int x, int y, Direction dir, int dmg) {
+		setRadius(Math.abs(dir.getX())+1, Math.abs(dir.getY())+1);
 		this.owner = owner;
 		this.x = x;
 		this.y = y;
@@ -44,6 +60,18 @@ public class Arrow extends Entity implements ClientTickable {
 		else speed = 6;
 	}
 
+	@Override
+	public void onRemoved() {
+		owner = null;
+		if (!pool.release(this)) {
+			try {
+				sprite.destroy(); // It won't be used again.
+			} catch (DestroyFailedException e) {
+				Logging.SPRITE.trace(e);
+			}
+		}
+	}
+
 	/**
 	 * Generates information about the arrow.
 	 * @return string representation of owner, xdir, ydir and damage.
@@ -77,12 +105,7 @@ public class Arrow extends Entity implements ClientTickable {
 			if (!level.getTile(x / 16, y / 16).mayPass(level, x / 16, y / 16, this)
 					&& !level.getTile(x / 16, y / 16).connectsToFluid
 					&& level.getTile(x / 16, y / 16).id != 16) {
-				this.remove();
-				try {
-					sprite.destroy();
-				} catch (DestroyFailedException e) {
-					Logging.SPRITE.trace(e);
-				}
+				this.remove(); // The sprite is kept, as the arrow may be used again.
 			}
 		}
 	}
@@ -91,6 +114,9 @@ public class Arrow extends Entity implements ClientTickable {
 		return false;
 	}
 
+	@Override
+	public boolean canGoDormant() { return false; }
+
 	@Override
 	public void render(Screen screen) {
 		screen.render(x - 4, y - 4, sprite);
@@ -1,8 +1,8 @@
 package minicraft.entity;
 
 import minicraft.core.Game;
-import minicraft.core.Updater;
 import minicraft.entity.mob.Player;
+import minicraft.gfx.IntRect;
 import minicraft.gfx.Rectangle;
 import minicraft.gfx.Screen;
 import minicraft.item.Item;
@@ -14,6 +14,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 public abstract class Entity implements Tickable {
 
@@ -39,6 +40,15 @@ public abstract class Entity implements Tickable {
 
 	// Numeric unique identifier for the entity.
 	public int eid;
+	// Where the entity is in the entity list of its level; only to be used by the level.
+	public int levelIndex = -1;
+	// The cell of the entity grid of its level the entity was last put in; only to be used by the level.
+	public int gridCell = -1;
+
+	// Reused by each step of move2, so moving doesn't allocate anything.
+	private final IntRect moveArea = new IntRect(), moveFrom = new IntRect();
+	private final Consumer<Entity> touchOnMove = this::touchOnMove, checkBlocking = this::checkBlocking;
+	private boolean moveBlocked;
 
 	/**
 	 * Default constructor for the Entity class.
@@ -80,7 +90,20 @@ public abstract class Entity implements Tickable {
 	protected Rectangle getBounds() { return new Rectangle(x, y, xr * 2, yr * 2, Rectangle.CENTER_DIMS); }
 
 	/** Returns true if this entity is found in the rectangle specified by given two coordinates. */
-	public boolean isTouching(Rectangle area) { return area.intersects(getBounds()); }
+	public boolean isTouching(Rectangle area) {
+		return !(area.getLeft() > x + xr || x - xr > area.getRight() || area.getBottom() < y - yr || y + yr < area.getTop());
+	}
+
+	/** Returns true if this entity is found in the area. */
+	public boolean isTouching(IntRect area) { return area.intersects(x - xr, y - yr, x + xr, y + yr); }
+
+	/** Returns the larger of the x and y radius of the entity. */
+	public int getRadius() { return Math.max(xr, yr); }
+
+	protected void setRadius(int xr, int yr) {
+		this.xr = xr;
+		this.yr = yr;
+	}
 
 	/** Returns if this entity stops other solid entities from moving. */
 	public boolean isSolid() { return true; } // Most entities are solid
@@ -117,7 +140,7 @@ public abstract class Entity implements Tickable {
 
 	/** Moves an entity horizontally and vertically. Returns whether entity was unimpeded in it's movement.  */
 	public boolean move(int xd, int yd) {
-		if (Updater.saving || (xd == 0 && yd == 0)) return true; // Pretend that it kept moving
+		if (xd == 0 && yd == 0) return true; // Pretend that it kept moving
 
 		boolean stopped = true; // Used to check if the entity has BEEN stopped, COMPLETELY; below checks for a lack of collision.
 		if (move2(xd, 0)) stopped = false; // Becomes false if horizontal movement was successful.
@@ -171,40 +194,62 @@ public abstract class Entity implements Tickable {
 			}
 		}
 
-		// These lists are named as if the entity has already moved-- it hasn't, though.
-		List<Entity> wasInside = level.getEntitiesInRect(getBounds()); // Gets all of the entities that are inside this entity (aka: colliding) before moving.
-
-		int xr = this.xr, yr = this.yr;
-		List<Entity> isInside = level.getEntitiesInRect(new Rectangle(x+xd, y+yd, xr*2, yr*2, Rectangle.CENTER_DIMS)); // Gets the entities that this entity will touch once moved.
-		if (interact) {
-			for (Entity e : isInside) {
-				/// Cycles through entities about to be touched, and calls touchedBy(this) for each of them.
-				if (e == this) continue; // Touching yourself doesn't count.
-
-				if (e instanceof Player) {
-					if (!(this instanceof Player))
-						touchedBy(e);
-				} else
-					e.touchedBy(this); // Call the method. ("touch" the entity)
-			}
-		}
+		// Cycles through the entities about to be touched, and calls touchedBy(this) for each of them.
+		if (interact) level.forEachEntityInRect(moveArea.setCenter(x + xd, y + yd, xr, yr), touchOnMove);
 
-		isInside.removeAll(wasInside); // Remove all the entities that this one is already touching before moving.
-		for (Entity e : isInside) {
-			if (e == this) continue; // Can't interact with yourself
-			if (e.blocks(this)) return false; // If the entity prevents this one from movement, don't move.
-		}
+		// Then the ones that this one isn't already touching before moving may block it.
+		moveBlocked = false;
+		level.forEachEntityInRect(moveArea.setCenter(x + xd, y + yd, xr, yr), checkBlocking);
+		if (moveBlocked) return false; // If an entity prevents this one from movement, don't move.
 
 		// Finally, the entity moves!
 		x += xd;
 		y += yd;
+		level.updateEntityPosition(this);
 
 		return true; // the move was successful.
 	}
 
+	private void touchOnMove(Entity e) {
+		if (e == this) return; // Touching yourself doesn't count.
+
+		if (e instanceof Player) {
+			if (!(this instanceof Player))
+				touchedBy(e);
+		} else
+			e.touchedBy(this); // Call the method. ("touch" the entity)
+	}
+
+	private void checkBlocking(Entity e) {
+		if (moveBlocked || e == this) return; // Can't interact with yourself
+		if (!e.isTouching(moveFrom.setCenter(x, y, xr, yr)) && e.blocks(this))
+			moveBlocked = true;
+	}
+
 	/** Checks if the entity is able to naturally be despawned in general conditions. Handles (despawns) if true. */
 	public void handleDespawn() {}
 
+	/**
+	 * Returns true if the entity may go dormant while no player is near, in which case the level only ticks it every so often,
+	 * and calls {@link #passTime(int)} with the ticks it missed first. Entities that have to keep up, like projectiles, return false.
+	 */
+	public boolean canGoDormant() { return true; }
+
+	/** Catches up on ticks that were skipped while the entity was dormant. Only timers should advance here; nothing should move. */
+	public void passTime(int ticks) {}
+
+	/** Called by the level once it has removed the entity, unless the entity went to another level. Pooled entities go back to their {@link EntityPool} here. */
+	public void onRemoved() {}
+
+	/** Forgets the id and level position of the entity, before it goes back into a pool. */
+	void resetForPool() {
+		eid = -1;
+		levelIndex = -1;
+		gridCell = -1;
+		removed = true;
+		level = null;
+	}
+
 	/** This exists as a way to signify that the entity has been removed through player action and/or world action; basically, it's actually gone, not just removed from a level because it's out of range or something. Calls to this method are used to, say, drop items. */
 	public void die() { remove(); }
 
@@ -0,0 +1,82 @@
+package minicraft.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps entities of one class that were removed from their level, so that short-lived ones, like sparks, arrows and item drops,
+ * can be used again instead of being allocated anew each time.
+ * An entity is released by {@link Entity#onRemoved()} once its level has processed its removal, and has to be set up again by
+ * its class when acquired. Only so many are kept; the rest are left to the garbage collector.
+ * Levels are ticked on several threads, so acquiring and releasing are synchronized.
+ */
+public class EntityPool<T extends Entity> {
+	private static final List<EntityPool<?>> pools = new ArrayList<>();
+
+	public final String name;
+	private final Supplier<T> factory;
+	private final Object[] free; // The entities ready to be used again.
+	private int size = 0;
+
+	private int created = 0, reused = 0, dropped = 0; // Counts for the metrics.
+	private int peak = 0; // The most entities kept at once.
+
+	public EntityPool(String name, int capacity, Supplier<T> factory) {
+		this.name = name;
+		this.factory = factory;
+		free = new Object[capacity];
+		synchronized (pools) {
+			pools.add(this);
+		}
+	}
+
+	public static List<EntityPool<?>> getPools() {
+		synchronized (pools) {
+			return Collections.unmodifiableList(new ArrayList<>(pools));
+		}
+	}
+
+	/** Returns a kept entity, or a new one if there are none. Either way, it still has to be set up. */
+	@SuppressWarnings("unchecked")
+	public synchronized T acquire() {
+		if (size > 0) {
+			reused++;
+			T entity = (T) free[--size];
+			free[size] = null;
+			return entity;
+		}
+
+		created++;
+		return factory.get();
+	}
+
+	/** Keeps the entity to be used again. Returns false if the pool is full, in which case it was not kept. */
+	public synchronized boolean release(T entity) {
+		if (size == free.length) {
+			dropped++;
+			return false;
+		}
+
+		entity.resetForPool();
+		free[size++] = entity;
+		peak = Math.max(peak, size);
+		return true;
+	}
+
+	public synchronized int getSize() { return size; }
+	public int getCapacity() { return free.length; }
+	public synchronized int getPeak() { return peak; }
+	public synchronized int getCreated() { return created; }
+	public synchronized int getReused() { return reused; }
+	public synchronized int getDropped() { return dropped; }
+
+	/** Returns a summary of the metrics, like "Spark 12/256 (peak 40), 95% reused, 0 dropped". */
+	@Override
+	public synchronized String toString() {
+		int acquired = created + reused;
+		return name + " " + size + "/" + free.length + " (peak " + peak + "), " +
+			(acquired == 0 ? 0 : reused * 100 / acquired) + "% reused, " + dropped + " dropped";
+	}
+}
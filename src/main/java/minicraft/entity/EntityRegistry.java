@@ -0,0 +1,67 @@
+package minicraft.entity;
+
+import minicraft.util.IntObjectMap;
+import minicraft.util.Logging;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hands out entity ids, and finds the entity with a given id across all levels.
+ * Ids are handed out in increasing order, skipping 0, which is reserved for the main player, and any id already taken,
+ * so an id is not handed out again while anything could still be looking for the entity it was given to.
+ * Entities are registered when added to a level, and unregistered once removed from it without going to another one.
+ * Levels tick on several threads, so every method is synchronized.
+ */
+public class EntityRegistry {
+	private EntityRegistry() {}
+
+	private static final IntObjectMap<Entity> entities = new IntObjectMap<>(1024);
+	private static int nextId = 1;
+
+	/** Returns a new id, which no registered entity has. */
+	public static synchronized int allocateId() {
+		int eid;
+		do {
+			eid = nextId;
+			nextId = nextId == Integer.MAX_VALUE ? 1 : nextId + 1; // Only ever wraps around after a very long session.
+		} while (entities.containsKey(eid));
+
+		return eid;
+	}
+
+	/** Returns the entity with the given id, if any level has it. */
+	@Nullable
+	public static synchronized Entity get(int eid) { return entities.get(eid); }
+
+	public static synchronized boolean isAvailable(int eid) {
+		if (eid == 0) return false; // This is reserved for the main player... kind of...
+		if (eid < 0) return false; // ID's must be positive numbers.
+
+		return !entities.containsKey(eid);
+	}
+
+	public static synchronized int size() { return entities.size(); }
+
+	/** Registers an entity by its id. Ids given elsewhere, such as loaded ones, are not handed out afterward. */
+	public static synchronized void register(Entity entity) {
+		if (entity.eid < 0) return;
+
+		Entity old = entities.put(entity.eid, entity);
+		if (old != null && old != entity)
+			Logging.ENTITY.debug("Entity {} replaced {} in the registry; both have id {}.", entity, old, entity.eid);
+
+		if (entity.eid >= nextId && entity.eid < Integer.MAX_VALUE)
+			nextId = entity.eid + 1;
+	}
+
+	/** Unregisters the entity, unless its id now belongs to another one. */
+	public static synchronized void unregister(Entity entity) {
+		if (entities.get(entity.eid) == entity)
+			entities.remove(entity.eid);
+	}
+
+	/** Forgets all the entities, and starts handing out ids from the beginning again. This is for when the levels are replaced. */
+	public static synchronized void clear() {
+		entities.clear();
+		nextId = 1;
+	}
+}
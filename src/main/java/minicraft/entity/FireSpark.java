@@ -9,14 +9,17 @@ import minicraft.gfx.SpriteLinker;
 
 public class FireSpark extends Entity {
 	private static final SpriteLinker.LinkedSprite sprite = new SpriteLinker.LinkedSprite(SpriteLinker.SpriteType.Entity, "spark");
+	private static final EntityPool<FireSpark> pool = new EntityPool<>("FireSpark", 256, FireSpark::new);
 
-	private final int lifeTime; // How much time until the spark disappears
-	private final double xa, ya; // The x and y acceleration
+	private int lifeTime; // How much time until the spark disappears
+	private double xa, ya; // The x and y acceleration
 	private double xx, yy; // The x and y positions
 	private int time; // The amount of time that has passed
 	private int stoppedTime;
 	private boolean stopped;
-	private final ObsidianKnight owner; // The Obsidian Knight that created this spark
+	private ObsidianKnight owner; // The Obsidian Knight that created this spark
+
+	private FireSpark() { super(0, 0); }
 
 	/**
 	 * Creates a new spark. Owner is the Obsidian Knight which is spawning this spark.
@@ -25,18 +28,39 @@ public class FireSpark extends Entity {
 	 * @param ya Y velocity.
 	 */
 	public FireSpark(ObsidianKnight owner, double xa, double ya) {
-		super(0, 0);
+		this();
+		init(owner, xa, ya);
+	}
 
+	/** Same as the constructor, but reuses a spark that was removed, if there is one. */
+	public static FireSpark get(ObsidianKnight owner, double xa, double ya) {
+		FireSpark spark = pool.acquire();
+		spark.init(owner, xa, ya);
+		return spark;
+	}
+
+	private void init(ObsidianKnight owner, double xa, double ya) {
 		this.owner = owner;
+		x = owner.x;
+		y = owner.y;
 		xx = owner.x;
 		yy = owner.y;
 		this.xa = xa;
 		this.ya = ya;
+		time = 0;
+		stoppedTime = 0;
+		stopped = false;
 
 		// Max time = 199 ticks. Min time = 180 ticks.
 		lifeTime = 60 * 3 + random.nextInt(20);
 	}
 
+	@Override
+	public void onRemoved() {
+		owner = null;
+		pool.release(this);
+	}
+
 	@Override
 	public void tick() {
 		time++;
@@ -79,6 +103,9 @@ public class FireSpark extends Entity {
 		return false;
 	}
 
+	@Override
+	public boolean canGoDormant() { return false; }
+
 	@Override
 	public void render(Screen screen) {
 		int randmirror = 0;
@@ -4,10 +4,13 @@ import minicraft.entity.mob.Player;
 import minicraft.gfx.Color;
 import minicraft.gfx.Screen;
 import minicraft.item.Item;
+import minicraft.item.StackableItem;
 
 import java.util.List;
 
 public class ItemEntity extends Entity implements ClientTickable {
+	private static final EntityPool<ItemEntity> pool = new EntityPool<>("ItemEntity", 256, ItemEntity::new);
+
 	private int lifeTime; // The life time of this entity in the level
 	private double xa, ya, za; // The x, y, and z accelerations.
 	private double xx, yy, zz; // The x, y, and z coordinates; in double precision.
@@ -25,13 +28,27 @@ public class ItemEntity extends Entity implements ClientTickable {
 	 * @param y position on map
 	 */
 	public ItemEntity(Item item, int x, int y) {
-		super(2, 2);
+		this();
+		init(item, x, y);
+	}
+
+	private ItemEntity() { super(2, 2); }
 
+	/** Same as {@link #ItemEntity(Item, int, int)}, but reuses an item entity that was removed, if there is one. */
+	public static ItemEntity get(Item item, int x, int y) {
+		ItemEntity entity = pool.acquire();
+		entity.init(item, x, y);
+		return entity;
+	}
+
+	private void init(Item item, int x, int y) {
 		this.item = item.copy();
 		this.x = x;
 		this.y = y;
 		xx = x;
 		yy = y;
+		time = 0;
+		pickedUp = false;
 
 		zz = 2;
 		// Random direction for each acceleration
@@ -65,6 +82,11 @@ public class ItemEntity extends Entity implements ClientTickable {
 		this.za = za;
 	}
 
+	@Override
+	public void onRemoved() {
+		pool.release(this);
+	}
+
 	/**
 	 * Returns a string representation of the itementity
 	 * @return string representation of this entity
@@ -73,6 +95,38 @@ public class ItemEntity extends Entity implements ClientTickable {
 		return String.join(":", (new String[] {item.getData(), zz + "", lifeTime+"", time + "", xa + "", ya + "", za + ""}));
 	}
 
+	@Override
+	public void passTime(int ticks) {
+		time += ticks; // It despawns on the next tick if its time ran out meanwhile.
+	}
+
+	/** Returns true if the item can be added to the stack of this item entity. */
+	public boolean canStack(Item other) {
+		if (isRemoved() || !(item instanceof StackableItem) || !((StackableItem) item).stacksWith(other)) return false;
+		StackableItem stack = (StackableItem) item;
+		return stack.count + ((StackableItem) other).count <= stack.maxCount;
+	}
+
+	/**
+	 * Adds the item to the stack of this item entity; {@link #canStack(Item)} must be true.
+	 * @param time How long the item has been in the level; the stack then lasts as long as the newer of the two would have.
+	 */
+	public void stack(Item other, int time) {
+		((StackableItem) item).count += ((StackableItem) other).count;
+		this.time = Math.min(this.time, time);
+	}
+
+	/**
+	 * Adds the items of the other item entity to this one, and removes the other one, if they stack.
+	 * An item entity that was removed already, such as one picked up earlier in the tick, has given its items away, so it is left alone.
+	 */
+	public boolean absorb(ItemEntity other) {
+		if (other == this || other.isRemoved() || !canStack(other.item)) return false;
+		stack(other.item, other.time);
+		other.remove();
+		return true;
+	}
+
 	@Override
 	public void tick() {
 		time++;
@@ -80,6 +134,9 @@ public class ItemEntity extends Entity implements ClientTickable {
 			remove(); // Remove from the world
 			return; // Skip the rest of the code
 		}
+
+		if (zz == 0 && ((time + eid) & 15) == 0) // Every so often once it has landed, staggered so not all of them do it at once.
+			level.mergeDrops(this);
 		// Moves each coordinate by the its acceleration
 		xx += xa;
 		yy += ya;
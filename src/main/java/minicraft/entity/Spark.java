@@ -9,13 +9,17 @@ import minicraft.gfx.SpriteLinker.LinkedSprite;
 import minicraft.gfx.SpriteLinker.SpriteType;
 
 public class Spark extends Entity {
-	private final int lifeTime; // How much time until the spark disappears
-	private final double xa;
-	private final double ya; // The x and y acceleration
+	private static final EntityPool<Spark> pool = new EntityPool<>("Spark", 256, Spark::new);
+	private static final LinkedSprite sprite = new LinkedSprite(SpriteType.Entity, "spark");
+
+	private int lifeTime; // How much time until the spark disappears
+	private double xa;
+	private double ya; // The x and y acceleration
 	private double xx, yy; // The x and y positions
 	private int time; // The amount of time that has passed
-	private final AirWizard owner; // The AirWizard that created this spark
-	private LinkedSprite sprite = new LinkedSprite(SpriteType.Entity, "spark");
+	private AirWizard owner; // The AirWizard that created this spark
+
+	private Spark() { super(0, 0); }
 
 	/**
 	 * Creates a new spark. Owner is the AirWizard which is spawning this spark.
@@ -24,18 +28,37 @@ public class Spark extends Entity {
 	 * @param ya Y velocity.
 	 */
 	public Spark(AirWizard owner, double xa, double ya) {
-		super(0, 0);
+		this();
+		init(owner, xa, ya);
+	}
+
+	/** Same as the constructor, but reuses a spark that was removed, if there is one. */
+	public static Spark get(AirWizard owner, double xa, double ya) {
+		Spark spark = pool.acquire();
+		spark.init(owner, xa, ya);
+		return spark;
+	}
 
+	private void init(AirWizard owner, double xa, double ya) {
 		this.owner = owner;
+		x = owner.x;
+		y = owner.y;
 		xx = owner.x;
 		yy = owner.y;
 		this.xa = xa;
 		this.ya = ya;
+		time = 0;
 
 		// Max time = 389 ticks. Min time = 360 ticks.
 		lifeTime = 60 * 6 + random.nextInt(30);
 	}
 
+	@Override
+	public void onRemoved() {
+		owner = null;
+		pool.release(this);
+	}
+
 	@Override
 	public void tick() {
 		time++;
@@ -60,6 +83,9 @@ public class Spark extends Entity {
 		return false;
 	}
 
+	@Override
+	public boolean canGoDormant() { return false; }
+
 	@Override
 	public void render(Screen screen) {
 		int randmirror = 0;
@@ -76,9 +102,8 @@ public class Spark extends Entity {
 			randmirror = random.nextInt(4);
 		}
 
-		sprite.setMirror(randmirror);
-		screen.render(x - 4, y - 4 + 2, sprite.getSprite(), 0, false, Color.BLACK); // renders the shadow on the ground
-		screen.render(x - 4, y - 4 - 2, sprite); // Renders the spark
+		screen.render(x - 4, y - 4 + 2, sprite.getSprite(), randmirror, false, Color.BLACK); // renders the shadow on the ground
+		screen.render(x - 4, y - 4 - 2, sprite.getSprite(), randmirror, false); // Renders the spark
 	}
 
 	/**
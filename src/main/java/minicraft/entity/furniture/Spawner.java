@@ -96,6 +96,11 @@ public class Spawner extends Furniture {
 		return fullName.substring(fullName.lastIndexOf(".")+1);
 	}
 
+	@Override
+	public void passTime(int ticks) {
+		spawnTick -= ticks;
+	}
+
 	@Override
 	public void tick() {
 		super.tick();
@@ -1,5 +1,6 @@
 package minicraft.entity.furniture;
 
+import minicraft.core.Updater;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
@@ -16,21 +17,16 @@ import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 import minicraft.screen.AchievementsDisplay;
 
-import javax.swing.Timer;
-
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.util.List;
 
-public class Tnt extends Furniture implements ActionListener {
+public class Tnt extends Furniture {
 	private static int FUSE_TIME = 90;
 	private static int BLAST_RADIUS = 32;
 	private static int BLAST_DAMAGE = 75;
+	private static final int CRATER_DELAY = Updater.normSpeed * 3 / 10; // Ticks between the blast and the crater it leaves.
 
 	private int ftik = 0;
 	private boolean fuseLit = false;
-	private Timer explodeTimer;
-	private Level levelSave;
 
 	private final String[] explosionBlacklist = new String[]{ "hard rock", "obsidian wall", "stairs up", "stairs down" };
 
@@ -41,10 +37,11 @@ public class Tnt extends Furniture implements ActionListener {
 		super("Tnt", new LinkedSprite(SpriteType.Entity, "tnt"), new LinkedSprite(SpriteType.Item, "tnt"), 3, 2);
 		fuseLit = false;
 		ftik = 0;
-
-		explodeTimer = new Timer(300, this);
 	}
 
+	@Override
+	public boolean canGoDormant() { return !fuseLit; } // A lit fuse burns down at the same pace everywhere.
+
 	@Override
 	public void tick() {
 		super.tick();
@@ -88,10 +85,10 @@ public class Tnt extends Furniture implements ActionListener {
 				AchievementsDisplay.setAchievement("minicraft.achievement.demolition", true);
 				Sound.play("explode");
 
-				level.setAreaTiles(xt, yt, 1, Tiles.get("explode"), 0, explosionBlacklist);
+				level.setAreaTiles(xt, yt, 1, Tiles.EXPLODE, 0, explosionBlacklist);
 
-				levelSave = level;
-				explodeTimer.start();
+				Level level = this.level;
+				level.schedule(CRATER_DELAY, () -> makeCrater(level, xt, yt));
 				super.remove();
 			}
 		}
@@ -107,20 +104,14 @@ public class Tnt extends Furniture implements ActionListener {
 	}
 
 	/**
-	 * Does the explosion.
+	 * Turns the exploded tiles into holes, once the explosion is over.
 	 */
-	public void actionPerformed(ActionEvent e) {
-		explodeTimer.stop();
-		int xt = x >> 4;
-		int yt = (y - 2) >> 4;
-
-		if (levelSave.depth != 1) {
-			levelSave.setAreaTiles(xt, yt, 1, Tiles.get("hole"), 0, explosionBlacklist);
+	private void makeCrater(Level level, int xt, int yt) {
+		if (level.depth != 1) {
+			level.setAreaTiles(xt, yt, 1, Tiles.HOLE, 0, explosionBlacklist);
 		} else {
-			levelSave.setAreaTiles(xt, yt, 1, Tiles.get("Infinite Fall"), 0, explosionBlacklist);
+			level.setAreaTiles(xt, yt, 1, Tiles.INFINITE_FALL, 0, explosionBlacklist);
 		}
-
-		levelSave = null;
 	}
 
 	@Override
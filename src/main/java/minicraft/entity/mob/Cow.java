@@ -35,7 +35,7 @@ public class Cow extends PassiveMob {
 			Tile tile = level.getTile(x >> 4, y >> 4);
 			// If tall grasses are present, these are consumed and then turn into grass tiles.
 			if (tile instanceof GrassTile) {
-				level.setTile(x >> 4, y >> 4, Tiles.get("dirt"));
+				level.setTile(x >> 4, y >> 4, Tiles.DIRT);
 			}
 		}
 	}
@@ -85,6 +85,12 @@ public class EnemyMob extends MobAi {
 			int xd = player.x - x;
 			int yd = player.y - y;
 			if (xd * xd + yd * yd < detectDist * detectDist) {
+				// Heads for the next tile on the way to the player, unless already on the player's tile or the way is blocked.
+				int step = level.getPursuitStep(this, player);
+				if (step >= 0 && step != (x >> 4) + (y >> 4) * level.w) {
+					xd = (step % level.w << 4) + 8 - x;
+					yd = (step / level.w << 4) + 8 - y;
+				}
 
 				/// If player is less than 6.25 tiles away, then set move dir towards player
 				int sig0 = 1; // This prevents too precise estimates, preventing mobs from bobbing up and down.
@@ -136,16 +142,19 @@ public class EnemyMob extends MobAi {
 		x = x >> 4;
 		y = y >> 4;
 
-		Tile t = level.getTile(x, y);
+		if (!maySpawnOn(level, level.getTile(x, y))) return false;
 
-		if (level.depth == -4) {
-			if (t != Tiles.get("Obsidian")) return false;
-		} else if (t != Tiles.get("Stone Door") && t != Tiles.get("Wood Door") && t != Tiles.get("Obsidian Door") && t != Tiles.get("wheat") && t != Tiles.get("farmland")) {
-			// Prevents mobs from spawning on lit tiles, farms, or doors (unless in the dungeons)
-			return !level.isLight(x, y);
-		} else return false;
+		// Prevents mobs from spawning on lit tiles (unless in the dungeons)
+		return level.depth == -4 || !level.isLight(x, y);
+	}
+
+	/** Checks if enemy mobs may spawn on the tile in the level, regardless of the light and the mobs around. */
+	public static boolean maySpawnOn(Level level, Tile t) {
+		if (!t.maySpawn()) return false;
+		if (level.depth == -4) return t == Tiles.OBSIDIAN;
 
-		return true;
+		// Prevents mobs from spawning on farms or doors
+		return t != Tiles.STONE_DOOR && t != Tiles.WOOD_DOOR && t != Tiles.OBSIDIAN_DOOR && t != Tiles.WHEAT && t != Tiles.FARMLAND;
 	}
 
 	@Override
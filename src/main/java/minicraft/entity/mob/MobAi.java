@@ -3,7 +3,6 @@ package minicraft.entity.mob;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.Entity;
-import minicraft.entity.furniture.Lantern;
 import minicraft.entity.particle.TextParticle;
 import minicraft.gfx.Color;
 import minicraft.gfx.Rectangle;
@@ -15,7 +14,6 @@ import minicraft.level.Level;
 import minicraft.level.tile.TorchTile;
 
 import java.awt.Point;
-import java.util.Arrays;
 
 public abstract class MobAi extends Mob {
 
@@ -62,13 +60,18 @@ public abstract class MobAi extends Mob {
 		}
 	}
 
+	@Override
+	public void passTime(int ticks) {
+		super.passTime(ticks);
+		if (lifetime > 0) age += ticks;
+	}
+
 	/**
 	 * Checking whether the mob is within any light. From tiles or from lanterns.
 	 * @return {@code true} if the mob is within any light.
 	 */
 	protected boolean isWithinLight() {
-		return Arrays.stream(level.getEntityArray()).anyMatch(e -> e instanceof Lantern && isWithin(e.getLightRadius(), e))
-			|| !level.getMatchingTiles((tile, x, y) -> Math.hypot(Math.abs(this.x - x), Math.abs(this.y - y)) <= tile.getLightRadius(level, x, y)).isEmpty();
+		return level.isLight(x >> 4, y >> 4);
 	}
 
 	/**
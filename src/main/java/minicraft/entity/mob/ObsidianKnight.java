@@ -137,7 +137,7 @@ public class ObsidianKnight extends EnemyMob {
 				double speed = 1 + attackLevel * 0.2 + attackTime / 10 * 0.01; // speed is dependent on the attackType. (higher attackType, faster speeds)
 				// The range of attack is 90 degrees. With little random factor.
 				int phi = attackDir - 36 + (attackTime % 5) * 18 + random.nextInt(7) - 3;
-				level.add(new FireSpark(this, Math.cos(Math.toRadians(phi)) * speed, Math.sin(Math.toRadians(phi)) * speed)); // Adds a spark entity with the cosine and sine of dir times speed.
+				level.add(FireSpark.get(this, Math.cos(Math.toRadians(phi)) * speed, Math.sin(Math.toRadians(phi)) * speed)); // Adds a spark entity with the cosine and sine of dir times speed.
 				return; // Skips the rest of the code (attackTime was > 0; ie we're attacking.)
 			}
 
@@ -189,7 +189,7 @@ public class ObsidianKnight extends EnemyMob {
 				if (dashTime > 0) {
 					dashTime--;
 					this.speed = 2;
-					level.add(new FireSpark(this, 0, 0)); // Fiery trail
+					level.add(FireSpark.get(this, 0, 0)); // Fiery trail
 				}
 			}
 		}
@@ -72,9 +72,12 @@ public class PassiveMob extends MobAi {
 		if (!MobAi.checkStartPos(level, x, y, 80, r))
 			return false;
 
-		Tile tile = level.getTile(x >> 4, y >> 4);
-		return tile == Tiles.get("grass") || tile == Tiles.get("flower");
+		return maySpawnOn(level.getTile(x >> 4, y >> 4));
+	}
 
+	/** Checks if passive mobs may spawn on the tile, regardless of the mobs around. */
+	public static boolean maySpawnOn(Tile tile) {
+		return tile == Tiles.GRASS || tile == Tiles.FLOWER;
 	}
 
 	@Override
@@ -325,9 +325,9 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 		}
 
 		Tile onTile = level.getTile(x >> 4, y >> 4); // Gets the current tile the player is on.
-		if (onTile == Tiles.get("Stairs Down") || onTile == Tiles.get("Stairs Up")) {
+		if (onTile == Tiles.STAIRS_DOWN || onTile == Tiles.STAIRS_UP) {
 			if (onStairDelay <= 0) { // When the delay time has passed...
-				World.scheduleLevelChange((onTile == Tiles.get("Stairs Up")) ? 1 : -1); // Decide whether to go up or down.
+				World.scheduleLevelChange((onTile == Tiles.STAIRS_UP) ? 1 : -1); // Decide whether to go up or down.
 				onStairDelay = 10; // Resets delay, since the level has now been changed.
 				return; // SKIPS the rest of the tick() method.
 			}
@@ -335,7 +335,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 			onStairDelay = 10; // Resets the delay, if on a stairs tile, but the delay is greater than 0. In other words, this prevents you from ever activating a level change on a stair tile, UNTIL you get off the tile for 10+ ticks.
 		} else if (onStairDelay > 0) onStairDelay--; // Decrements stairDelay if it's > 0, but not on stair tile... does the player get removed from the tile beforehand, or something?
 
-		if (onTile == Tiles.get("Infinite Fall") && !Game.isMode("minicraft.settings.mode.creative")) {
+		if (onTile == Tiles.INFINITE_FALL && !Game.isMode("minicraft.settings.mode.creative")) {
 			if (onFallDelay <= 0) {
 				World.scheduleLevelChange(-1);
 				onFallDelay = 40;
@@ -456,8 +456,8 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 
 			}
 
-			// Executes if not saving; and... essentially halves speed if out of stamina.
-			if ((vec.x != 0 || vec.y != 0) && (staminaRechargeDelay % 2 == 0 || isSwimming()) && !Updater.saving) {
+			// Essentially halves speed if out of stamina.
+			if ((vec.x != 0 || vec.y != 0) && (staminaRechargeDelay % 2 == 0 || isSwimming())) {
 				double spd = moveSpeed * (potioneffects.containsKey(PotionType.Speed) ? 1.5D : 1);
 				int xd = (int) (vec.x * spd);
 				int yd = (int) (vec.y * spd);
@@ -602,7 +602,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 		if (activeItem != null && !activeItem.interactsWithWorld()) {
 			attackDir = dir; // Make the attack direction equal the current direction
 			attackItem = activeItem; // Make attackItem equal activeItem
-			activeItem.interactOn(Tiles.get("rock"), level, 0, 0, this, attackDir);
+			activeItem.interactOn(Tiles.ROCK, level, 0, 0, this, attackDir);
 			if (activeItem.isDepleted()) {
 				activeItem = null;
 			}
@@ -623,7 +623,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 				if (tool.type == ToolType.Bow && tool.dur > 0 && inventory.count(Items.arrowItem) > 0) {
 
 					inventory.removeItem(Items.arrowItem);
-					level.add(new Arrow(this, attackDir, tool.level));
+					level.add(Arrow.get(this, attackDir, tool.level));
 					attackTime = 10;
 
 					if (!Game.isMode("minicraft.settings.mode.creative")) tool.dur--;
@@ -836,7 +836,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 		// Renders swimming
 		if (isSwimming() && onFallDelay <= 0) {
 			yo += 4; // y offset is moved up by 4
-			if (level.getTile(x / 16, y / 16) == Tiles.get("water")) {
+			if (level.getTile(x / 16, y / 16) == Tiles.WATER) {
 
 				// animation effect
 			    if (tickTime / 8 % 2 == 0) {
@@ -847,7 +847,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 					screen.render(xo + 8, yo + 3, 5, 1, 1, hudSheet.getSheet());
 			    }
 
-			} else if (level.getTile(x / 16, y / 16) == Tiles.get("lava")) {
+			} else if (level.getTile(x / 16, y / 16) == Tiles.LAVA) {
 
 			    if (tickTime / 8 % 2 == 0) {
 					screen.render(xo + 0, yo + 3, 6, 0, 1, hudSheet.getSheet()); // Render the lava graphic
@@ -1003,7 +1003,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 	public void findStartPos(Level level, boolean setSpawn) {
 		Point spawnPos;
 
-		List<Point> spawnTilePositions = level.getMatchingTiles(Tiles.get("grass"));
+		List<Point> spawnTilePositions = level.getMatchingTiles(Tiles.GRASS);
 
 		if (spawnTilePositions.size() == 0)
 			spawnTilePositions.addAll(level.getMatchingTiles((t, x, y) -> t.maySpawn()));
@@ -1014,7 +1014,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 		// There are no tiles in the entire map which the player is allowed to stand on. Not likely.
 		if (spawnTilePositions.size() == 0) {
 			spawnPos = new Point(random.nextInt(level.w/4)+level.w*3/8, random.nextInt(level.h/4)+level.h*3/8);
-			level.setTile(spawnPos.x, spawnPos.y, Tiles.get("grass"));
+			level.setTile(spawnPos.x, spawnPos.y, Tiles.GRASS);
 		} else { // Gets random valid spawn tile position.
 			spawnPos = spawnTilePositions.get(random.nextInt(spawnTilePositions.size()));
 		}
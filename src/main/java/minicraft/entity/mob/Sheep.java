@@ -48,7 +48,7 @@ public class Sheep extends PassiveMob {
 		// If tall grasses are present, these are consumed and then turn into grass tiles.
 		if (tile instanceof GrassTile) {
 			if (random.nextInt(1000) == 0) { // Grazing
-				level.setTile(x >> 4, y >> 4, Tiles.get("dirt"));
+				level.setTile(x >> 4, y >> 4, Tiles.DIRT);
 				cut = false;
 			}
 		}
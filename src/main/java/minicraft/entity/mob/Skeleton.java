@@ -42,7 +42,7 @@ public class Skeleton extends EnemyMob {
 			int yd = player.y - y;
 			if (xd * xd + yd * yd < 100 * 100) {
 				if (artime < 1) {
-					level.add(new Arrow(this, dir, lvl));
+					level.add(Arrow.get(this, dir, lvl));
 					artime = arrowtime;
 				}
 			}
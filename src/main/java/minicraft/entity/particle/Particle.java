@@ -35,6 +35,11 @@ public class Particle extends Entity implements ClientTickable {
 		this(x, y, 1, lifetime, sprite);
 	}
 
+	@Override
+	public void passTime(int ticks) {
+		time += ticks;
+	}
+
 	@Override
 	public void tick() {
 		time++;
@@ -0,0 +1,32 @@
+package minicraft.gfx;
+
+/**
+ * A rectangle given by its corners, inclusive, which can be set again instead of making a new one.
+ * This is for queries run very often, like those for collisions, where {@link Rectangle} would be allocated each time.
+ */
+public class IntRect {
+
+	public int x0, y0, x1, y1;
+
+	public IntRect() {} // 0 all.
+	public IntRect(int x0, int y0, int x1, int y1) { set(x0, y0, x1, y1); }
+
+	public IntRect set(int x0, int y0, int x1, int y1) {
+		this.x0 = x0;
+		this.y0 = y0;
+		this.x1 = x1;
+		this.y1 = y1;
+		return this;
+	}
+
+	/** Sets the rectangle to the given center and radii, the same as a {@link Rectangle} with {@link Rectangle#CENTER_DIMS} of twice the radii. */
+	public IntRect setCenter(int x, int y, int xr, int yr) { return set(x - xr, y - yr, x + xr, y + yr); }
+
+	public boolean intersects(int x0, int y0, int x1, int y1) {
+		return this.x0 <= x1 && x0 <= this.x1 && this.y0 <= y1 && y0 <= this.y1;
+	}
+
+	public boolean intersects(IntRect other) { return intersects(other.x0, other.y0, other.x1, other.y1); }
+
+	public String toString() { return super.toString() + "[" + x0 + "," + y0 + " to " + x1 + "," + y1 + "]"; }
+}
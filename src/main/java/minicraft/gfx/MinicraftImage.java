@@ -16,6 +16,8 @@ public class MinicraftImage {
 
 	public final int width, height; // Width and height of the sprite sheet
 	public final int[] pixels; // Integer array of the image's pixels
+	final int[] colors; // The pixels as they are put on the screen, already upgraded; -1 where transparent.
+	private final boolean[] opaque; // Whether each 8x8 box has no transparent pixels.
 
 	/**
 	 * Default with maximum size of image.
@@ -83,5 +85,24 @@ public class MinicraftImage {
 			// Uses 25 bits to store everything (8 for red, 8 for green, 8 for blue, and 1 for alpha)
 			pixels[i] = (transparent << 24) + red + green + blue;
 		}
+
+		// Upgrading the colors once here, instead of for each pixel rendered.
+		colors = new int[pixels.length];
+		for (int i = 0; i < pixels.length; i++)
+			colors[i] = pixels[i] >> 24 == 0 ? -1 : Color.upgrade(pixels[i]);
+
+		opaque = new boolean[(this.width / 8) * (this.height / 8)];
+		for (int yt = 0; yt < this.height / 8; yt++) {
+			for (int xt = 0; xt < this.width / 8; xt++) {
+				boolean box = true;
+				for (int y = 0; y < 8 && box; y++)
+					for (int x = 0; x < 8 && box; x++)
+						box = colors[xt * 8 + x + (yt * 8 + y) * this.width] >= 0;
+				opaque[xt + yt * (this.width / 8)] = box;
+			}
+		}
 	}
+
+	/** Returns true if the 8x8 box at the given position has no transparent pixels. */
+	boolean isOpaque(int xt, int yt) { return xt < width / 8 && opaque[xt + yt * (width / 8)]; }
 }
@@ -22,8 +22,11 @@ public class Screen {
 	// Used for mirroring an image:
 	private static final int BIT_MIRROR_X = 0x01; // Written in hexadecimal; binary: 01
 	private static final int BIT_MIRROR_Y = 0x02; // Binary: 10
+	private static final int WHITE_RGB = 0xFFFFFF; // White in a sheet, once upgraded.
 
 	public int[] pixels; // Pixels on the screen
+	private final int width, height; // The size of the pixels; that of the screen, unless this is an off-screen buffer.
+	private boolean animated = false; // If an animated sprite was rendered since this was last checked.
 
 	// Outdated Information:
 	// Since each sheet is 256x256 pixels, each one has 1024 8x8 "tiles"
@@ -32,9 +35,19 @@ public class Screen {
 
 	public Screen() {
 		/// Screen width and height are determined by the actual game window size, meaning the screen is only as big as the window.
-		pixels = new int[Screen.w * Screen.h]; // Makes new integer array for all the pixels on the screen.
+		this(Screen.w, Screen.h);
 	}
 
+	/** Makes an off-screen buffer of the given size to render onto, such as to keep what was rendered for later frames. */
+	public Screen(int width, int height) {
+		this.width = width;
+		this.height = height;
+		pixels = new int[width * height]; // Makes new integer array for all the pixels on the screen.
+	}
+
+	public int getWidth() { return width; }
+	public int getHeight() { return height; }
+
 	/** Clears all the colors on the screen */
 	public void clear(int color) {
 		// Turns each pixel into a single color (clearing the screen!)
@@ -88,49 +101,62 @@ public class Screen {
 			yt = 0;
 		}
 
-		int xTile = xt; // Gets x position of the spritesheet "tile"
-		int yTile = yt; // Gets y position
-		int toffs = xTile * 8 + yTile * 8 * sheet.width; // Gets the offset of the sprite into the spritesheet pixel array, the 8's represent the size of the box. (8 by 8 pixel sprite boxes)
-
-		// THIS LOOPS FOR EVERY PIXEL
-		for (int y = 0; y < 8; y++) { // Loops 8 times (because of the height of the tile)
-			int ys = y; // Current y pixel
-			if (mirrorY) ys = 7 - y; // Reverses the pixel for a mirroring effect
-			if (y + yp < 0 || y + yp >= h) continue; // If the pixel is out of bounds, then skip the rest of the loop.
-			for (int x = 0; x < 8; x++) { // Loops 8 times (because of the width of the tile)
-				if (x + xp < 0 || x + xp >= w) continue; // Skip rest if out of bounds.
-
-				int xs = x; // Current x pixel
-				if (mirrorX) xs = 7 - x; // Reverses the pixel for a mirroring effect
-
-				int col = sheet.pixels[toffs + xs + ys * sheet.width]; // Gets the color of the current pixel from the value stored in the sheet.
-
-				boolean isTransparent = (col >> 24 == 0);
-
-				if (!isTransparent) {
-					int index = (x + xp) + (y + yp) * w;
-
-					if (whiteTint != -1 && col == 0x1FFFFFF) {
-						// If this is white, write the whiteTint over it
-						pixels[index] = Color.upgrade(whiteTint);
-					} else {
-						// Inserts the colors into the image
-						if (fullbright) {
-							pixels[index] = Color.WHITE;
-						} else {
-							if (color != 0) {
-
-								pixels[index] = color;
-							} else {
-								pixels[index] = Color.upgrade(col);
-							}
-						}
-					}
+		// Clips the sprite to the screen once, instead of checking each pixel.
+		int x0 = Math.max(0, -xp), y0 = Math.max(0, -yp);
+		int x1 = Math.min(8, width - xp), y1 = Math.min(8, height - yp);
+		if (x0 >= x1 || y0 >= y1) return;
+
+		int[] colors = sheet.colors; // Already upgraded; -1 where transparent.
+		int sw = sheet.width;
+		int toffs = xt * 8 + yt * 8 * sw; // Gets the offset of the sprite into the spritesheet pixel array, the 8's represent the size of the box. (8 by 8 pixel sprite boxes)
+		// Mirroring is done by going through the sprite from the other side.
+		int xStep = mirrorX ? -1 : 1;
+		int yStep = mirrorY ? -sw : sw;
+		toffs += (mirrorX ? 7 - x0 : x0) + (mirrorY ? 7 - y0 : y0) * sw;
+		int index = (x0 + xp) + (y0 + yp) * width;
+		int cols = x1 - x0;
+
+		int tint = whiteTint == -1 ? -1 : Color.upgrade(whiteTint);
+		if (fullbright || color != 0) { // Every pixel is the same color, but for white ones, with a tint.
+			int solid = fullbright ? Color.WHITE : color;
+			for (int y = y0; y < y1; y++, toffs += yStep, index += width) {
+				for (int x = 0, s = toffs; x < cols; x++, s += xStep) {
+					int col = colors[s];
+					if (col >= 0) pixels[index + x] = tint != -1 && col == WHITE_RGB ? tint : solid;
+				}
+			}
+		} else if (tint != -1) { // White pixels are tinted.
+			for (int y = y0; y < y1; y++, toffs += yStep, index += width) {
+				for (int x = 0, s = toffs; x < cols; x++, s += xStep) {
+					int col = colors[s];
+					if (col >= 0) pixels[index + x] = col == WHITE_RGB ? tint : col;
+				}
+			}
+		} else if (sheet.isOpaque(xt, yt)) { // Nothing to skip.
+			for (int y = y0; y < y1; y++, toffs += yStep, index += width) {
+				if (!mirrorX) System.arraycopy(colors, toffs, pixels, index, cols);
+				else for (int x = 0, s = toffs; x < cols; x++, s--) pixels[index + x] = colors[s];
+			}
+		} else {
+			for (int y = y0; y < y1; y++, toffs += yStep, index += width) {
+				for (int x = 0, s = toffs; x < cols; x++, s += xStep) {
+					int col = colors[s];
+					if (col >= 0) pixels[index + x] = col; // Skips the transparent pixels.
 				}
 			}
 		}
 	}
 
+	/** Records that a sprite that changes over time was rendered, so what was rendered can't be kept as it is. */
+	public void markAnimated() { animated = true; }
+
+	/** Returns true if a sprite that changes over time was rendered since the last time this was called. */
+	public boolean checkAnimated() {
+		boolean animated = this.animated;
+		this.animated = false;
+		return animated;
+	}
+
 	/** Sets the offset of the screen */
 	public void setOffset(int xOffset, int yOffset) {
 		// This is called in few places, one of which is level.renderBackground, right before all the tiles are rendered. The offset is determined by the Game class (this only place renderBackground is called), by using the screen's width and the player's position in the level.
@@ -154,8 +180,48 @@ public class Screen {
 		15, 7, 13, 5
 	};
 
+	// A pixel is dark if its light level divided by 10 is at most the value in dither; that is, if it is below ten times one more.
+	private static final int[] DARK_LIMITS = new int[dither.length];
+	static {
+		for (int i = 0; i < dither.length; i++)
+			DARK_LIMITS[i] = (dither[i] + 1) * 10;
+	}
+
+	private static final int CAVE_DARK = 0x141414; // Black, brightened by 20.
+
+	// The value each color channel takes in the overlay, for the tint they were made for.
+	private final int[] litChannels = new int[256], darkChannels = new int[256];
+	private int overlayTint = Integer.MIN_VALUE;
+
+	// The brightness of each pixel of a light of each radius, built when first needed; Integer.MIN_VALUE outside of the circle.
+	private static final int MAX_STAMP_RADIUS = 256;
+	private static final int[][] lightStamps = new int[MAX_STAMP_RADIUS + 1][];
+
+	private static int[] getLightStamp(int r) {
+		int[] stamp = lightStamps[r];
+		if (stamp == null) {
+			stamp = new int[4 * r * r];
+			for (int yd = -r; yd < r; yd++) {
+				for (int xd = -r; xd < r; xd++) {
+					int dist = xd * xd + yd * yd;
+					// br = brightness... literally. from 0 to 255. r*r is becuase dist is still x*x+y*y, of pythag theorem.
+					stamp[xd + r + (yd + r) * 2 * r] = dist <= r * r ? 255 - dist * 255 / (r * r) : Integer.MIN_VALUE;
+				}
+			}
+
+			lightStamps[r] = stamp;
+		}
+
+		return stamp;
+	}
+
 	/** Overlays the screen with pixels */
     public void overlay(Screen screen2, int currentLevel, int xa, int ya) {
+		overlay(screen2, getOverlayTint(currentLevel), currentLevel < 3, xa, ya);
+	}
+
+	/** Returns how much the pixels that aren't lit are tinted on the given level, at the current time of day. */
+	public static int getOverlayTint(int currentLevel) {
 		double tintFactor = 0;
 		if (currentLevel >= 3 && currentLevel < 5) {
 			int transTime = Updater.dayLength / 4;
@@ -174,28 +240,42 @@ public class Screen {
 		else if(currentLevel >= 5)
 			tintFactor = -MAXDARK;
 
+		return (int) tintFactor;
+	}
+
+	/** Overlays the screen with pixels, with the pixels that aren't lit tinted as given, or black if in the caves. */
+	public void overlay(Screen screen2, int tint, boolean caves, int xa, int ya) {
+		// The channels of the pixels that are lit are brightened by 20, and those of the dark ones tinted as well, before that.
+		if (tint != overlayTint) {
+			overlayTint = tint;
+			for (int c = 0; c < 256; c++) {
+				litChannels[c] = Math.min(255, c + 20);
+				darkChannels[c] = Math.max(0, Math.min(255, Math.max(0, Math.min(255, c + tint)) + 20));
+			}
+		}
+
 		int[] oPixels = screen2.pixels;  // The Integer array of pixels to overlay the screen with.
 		int i = 0; // Current pixel on the screen
 		for (int y = 0; y < h; y++) { // loop through height of screen
-            for (int x = 0; x < w; x++) { // loop through width of screen
-				if (oPixels[i] / 10 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
-
-                    /// The above if statement is simply comparing the light level stored in oPixels with the minimum light level stored in dither. if it is determined that the oPixels[i] is less than the minimum requirements, the pixel is considered "dark", and the below is executed...
-					if (currentLevel < 3) { // if in caves...
-                        /// in the caves, not being lit means being pitch black.
-						pixels[i] = 0;
-                    } else {
-						/// Outside the caves, not being lit simply means being darker.
-						pixels[i] = Color.tintColor(pixels[i], (int)tintFactor); // darkens the color one shade.
-                    }
-                }
-
-				// Increase the tinting of all colors by 20.
-				pixels[i] = Color.tintColor(pixels[i], 20);
-                i++; // Moves to the next pixel.
-            }
-        }
-    }
+			int row = ((y + ya) & 3) * 4;
+			for (int x = 0; x < w; x++) { // loop through width of screen
+				int col = pixels[i];
+				if (oPixels[i] < DARK_LIMITS[((x + xa) & 3) + row]) {
+					/// The light level stored in oPixels is less than the minimum light level stored in dither, so the pixel is considered "dark".
+					if (caves) pixels[i] = CAVE_DARK; // In the caves, not being lit means being pitch black.
+					else if (col >= 0) pixels[i] = lookup(darkChannels, col); // Outside the caves, not being lit simply means being darker.
+				} else if (col >= 0) { // Negative colors are "transparent", which tinting leaves as they are.
+					pixels[i] = lookup(litChannels, col);
+				}
+				i++; // Moves to the next pixel.
+			}
+		}
+	}
+
+	/** Maps each channel of the color through the table. */
+	private static int lookup(int[] channels, int col) {
+		return channels[(col >> 16) & 0xFF] << 16 | channels[(col >> 8) & 0xFF] << 8 | channels[col & 0xFF];
+	}
 
 	public void renderLight(int x, int y, int r) {
 		// Applies offsets:
@@ -213,6 +293,22 @@ public class Screen {
 		if (x1 > w) x1 = w;
 		if (y1 > h) y1 = h;
 
+		if (r <= MAX_STAMP_RADIUS) {
+			// Puts the precomputed circle of the radius on the screen, so nothing has to be worked out per pixel.
+			int[] stamp = getLightStamp(r);
+			int size = 2 * r;
+			for (int yy = y0; yy < y1; yy++) {
+				int from = x0 - (x - r) + (yy - (y - r)) * size;
+				int to = yy * w;
+				for (int xx = x0; xx < x1; xx++, from++) {
+					int br = stamp[from];
+					if (pixels[xx + to] < br) pixels[xx + to] = br; // Pixel cannot be smaller than br.
+				}
+			}
+
+			return;
+		}
+
 		for (int yy = y0; yy < y1; yy++) { // Loop through each y position
 			int yd = yy - y; // Get distance to the previous y position.
 			yd = yd * yd; // Square that distance
@@ -34,11 +34,20 @@ public class SpriteAnimation implements Destroyable {
 		return metas.get(key);
 	}
 
+	private static int refreshCount = 0; // The times the animations were refreshed, so anything rendered with the previous sprites can be rendered again.
+
 	/** Refreshing all currently registered animations. */
 	public static void refreshAnimations() {
 		spriteAnimations.forEach(a -> a.refreshAnimation(metas.get(a.key)));
+		refreshCount++;
 	}
 
+	/** Getting the times the animations were refreshed, as the sprites of resource packs may have changed each time. */
+	public static int getRefreshCount() { return refreshCount; }
+
+	// The bits of the tiles connected to.
+	public static final int UP = 1, DOWN = 2, LEFT = 4, RIGHT = 8, UP_LEFT = 16, DOWN_LEFT = 32, UP_RIGHT = 64, DOWN_RIGHT = 128;
+
 	private LinkedSprite[] animations;
 	private SpriteMeta metadata; // The metadata of the sprite sheet.
 	private int frame = 0; // The current frame of the animation.
@@ -178,6 +187,36 @@ public class SpriteAnimation implements Destroyable {
 		return animations[frame];
 	}
 
+	/**
+	 * Checking if the sprite rendered depends on the tiles around.
+	 * @return {@code true} if the border and the tile class are set.
+	 */
+	public boolean isConnective() {
+		return connectChecker != null && (border != null || corner != null);
+	}
+
+	/**
+	 * Getting the tiles around the given one that this connects to, as the bits {@link #UP} to {@link #DOWN_RIGHT}.
+	 * This only depends on the tiles around, so levels keep the result, and only get it again when those change.
+	 * @param level The level of the tile.
+	 * @param x The x coordinate level tile.
+	 * @param y The y coordinate level tile.
+	 * @return The connection bits.
+	 */
+	public int getConnections(Level level, int x, int y) {
+		int connections = 0;
+		if (connectChecker.apply(level.getTile(x, y - 1), true)) connections |= UP;
+		if (connectChecker.apply(level.getTile(x, y + 1), true)) connections |= DOWN;
+		if (connectChecker.apply(level.getTile(x - 1, y), true)) connections |= LEFT;
+		if (connectChecker.apply(level.getTile(x + 1, y), true)) connections |= RIGHT;
+
+		if (connectChecker.apply(level.getTile(x - 1, y - 1), false)) connections |= UP_LEFT;
+		if (connectChecker.apply(level.getTile(x - 1, y + 1), false)) connections |= DOWN_LEFT;
+		if (connectChecker.apply(level.getTile(x + 1, y - 1), false)) connections |= UP_RIGHT;
+		if (connectChecker.apply(level.getTile(x + 1, y + 1), false)) connections |= DOWN_RIGHT;
+		return connections;
+	}
+
 	/**
 	 * Rendering the animation on the screen.
 	 * @param screen The screen instance.
@@ -187,16 +226,17 @@ public class SpriteAnimation implements Destroyable {
 	 */
 	public void render(Screen screen, Level level, int x, int y) {
 		// If border and the tile class is set.
-		if (connectChecker != null && (border != null || corner != null)) {
-			boolean u = connectChecker.apply(level.getTile(x, y - 1), true);
-			boolean d = connectChecker.apply(level.getTile(x, y + 1), true);
-			boolean l = connectChecker.apply(level.getTile(x - 1, y), true);
-			boolean r = connectChecker.apply(level.getTile(x + 1, y), true);
-
-			boolean ul = connectChecker.apply(level.getTile(x - 1, y - 1), false);
-			boolean dl = connectChecker.apply(level.getTile(x - 1, y + 1), false);
-			boolean ur = connectChecker.apply(level.getTile(x + 1, y - 1), false);
-			boolean dr = connectChecker.apply(level.getTile(x + 1, y + 1), false);
+		if (isConnective()) {
+			int connections = level.getConnections(this, x, y);
+			boolean u = (connections & UP) != 0;
+			boolean d = (connections & DOWN) != 0;
+			boolean l = (connections & LEFT) != 0;
+			boolean r = (connections & RIGHT) != 0;
+
+			boolean ul = (connections & UP_LEFT) != 0;
+			boolean dl = (connections & DOWN_LEFT) != 0;
+			boolean ur = (connections & UP_RIGHT) != 0;
+			boolean dr = (connections & DOWN_RIGHT) != 0;
 
 			x = x << 4;
 			y = y << 4;
@@ -246,6 +286,7 @@ public class SpriteAnimation implements Destroyable {
 
 		// If there is animation.
 		if (animations.length > 1) {
+			screen.markAnimated();
 			if (lastMillis < World.getLastWorldEnterTime()) { // Last time rendered is before this new world entered.
 				lastTick = Updater.gameTime; // Reset game time. Depends on world.
 				frame = 0;
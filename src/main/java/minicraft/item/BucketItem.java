@@ -15,9 +15,9 @@ import java.util.ArrayList;
 public class BucketItem extends StackableItem {
 
 	public enum Fill {
-		Empty (Tiles.get("hole"), 2),
-		Water (Tiles.get("water"), 0),
-		Lava (Tiles.get("lava"), 1);
+		Empty (Tiles.HOLE, 2),
+		Water (Tiles.WATER, 0),
+		Lava (Tiles.LAVA, 1);
 
 		public Tile contained;
 		public int offset;
@@ -64,12 +64,12 @@ public class BucketItem extends StackableItem {
 				if (!Game.isMode("minicraft.settings.mode.creative")) player.activeItem = editBucket(player, Fill.Empty);
 				return true;
 			} else if (fill == Fill.Lava && filling == Fill.Water) {
-				level.setTile(xt, yt, Tiles.get("Obsidian"));
+				level.setTile(xt, yt, Tiles.OBSIDIAN);
 				if (!Game.isMode("minicraft.settings.mode.creative")) player.activeItem = editBucket(player, Fill.Empty);
 				return true;
 			}
 		} else { // This is an empty bucket
-			level.setTile(xt, yt, Tiles.get("hole"));
+			level.setTile(xt, yt, Tiles.HOLE);
 			if (!Game.isMode("minicraft.settings.mode.creative")) player.activeItem = editBucket(player, fill);
 			return true;
 		}
@@ -0,0 +1,52 @@
+package minicraft.level;
+
+import minicraft.gfx.SpriteAnimation;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The tiles around each tile of a level that it connects to, for each connective sprite animation, as given by
+ * {@link SpriteAnimation#getConnections}. They only depend on the tiles, so they are worked out for the whole level
+ * the first time an animation is rendered on it, and again only for the tiles around one that is set.
+ * Rendering happens on another thread than ticking, so access is synchronized.
+ */
+class ConnectionMasks {
+	private final Level level;
+	private final short[] tiles; // The tile array this was built for.
+	private final IdentityHashMap<SpriteAnimation, byte[]> masks = new IdentityHashMap<>();
+
+	ConnectionMasks(Level level) {
+		this.level = level;
+		tiles = level.tiles;
+	}
+
+	/** Returns true if this was built for the given tile array. */
+	boolean isFor(short[] tiles) { return this.tiles == tiles; }
+
+	synchronized int get(SpriteAnimation animation, int x, int y) {
+		if (x < 0 || y < 0 || x >= level.w || y >= level.h) return animation.getConnections(level, x, y);
+
+		byte[] mask = masks.get(animation);
+		if (mask == null) {
+			mask = new byte[level.w * level.h];
+			for (int yt = 0; yt < level.h; yt++)
+				for (int xt = 0; xt < level.w; xt++)
+					mask[xt + yt * level.w] = (byte) animation.getConnections(level, xt, yt);
+			masks.put(animation, mask);
+		}
+
+		return mask[x + y * level.w] & 0xFF;
+	}
+
+	/** Works out the connections of the tile and the ones around it again. */
+	synchronized void tileChanged(int x, int y) {
+		if (masks.isEmpty()) return;
+		for (int yt = Math.max(0, y - 1); yt <= Math.min(level.h - 1, y + 1); yt++) {
+			for (int xt = Math.max(0, x - 1); xt <= Math.min(level.w - 1, x + 1); xt++) {
+				for (Map.Entry<SpriteAnimation, byte[]> entry : masks.entrySet())
+					entry.getValue()[xt + yt * level.w] = (byte) entry.getKey().getConnections(level, xt, yt);
+			}
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package minicraft.level;
+
+import minicraft.entity.Entity;
+import minicraft.gfx.IntRect;
+import minicraft.gfx.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A uniform grid of entity buckets laid over a level, so that area queries only have to look at
+ * the entities that are actually nearby, instead of at every entity in the level.
+ * Each bucket covers 4x4 tiles. Entities are bucketed by their center position.
+ * The cell each entity was last put in is kept on the entity; as an entity moving to another level is in both grids for a tick,
+ * whether it is in a cell is checked against the bucket.
+ */
+class EntityGrid {
+	private static final int CELL_SHIFT = 2; // Each cell is 4x4 tiles.
+	private static final int CELL_PIXEL_SHIFT = CELL_SHIFT + 4; // 16 pixels per tile.
+
+	private final int gw, gh; // Width and height of the grid, in cells.
+	private final List<Entity>[] cells;
+	private int maxRadius = 0; // The largest entity radius seen; rectangle queries are widened by this.
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	EntityGrid(int w, int h) {
+		gw = Math.max(1, (w + (1 << CELL_SHIFT) - 1) >> CELL_SHIFT);
+		gh = Math.max(1, (h + (1 << CELL_SHIFT) - 1) >> CELL_SHIFT);
+		cells = new List[gw * gh];
+	}
+
+	private int cellX(int x) { return Math.max(0, Math.min(gw - 1, x >> CELL_PIXEL_SHIFT)); }
+	private int cellY(int y) { return Math.max(0, Math.min(gh - 1, y >> CELL_PIXEL_SHIFT)); }
+	private int cellOf(Entity e) { return cellX(e.x) + cellY(e.y) * gw; }
+
+	/** Removes the entity from the bucket, if it is there. Entities are equal by their id, so they are looked for by identity instead. */
+	private static boolean removeFrom(List<Entity> bucket, Entity e) {
+		if (bucket == null) return false;
+		for (int i = 0; i < bucket.size(); i++) {
+			if (bucket.get(i) == e) {
+				bucket.remove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Returns true if the entity is in the given cell of this grid. */
+	private boolean inCell(Entity e, int cell) {
+		if (cell < 0 || cell >= cells.length || cells[cell] == null) return false;
+		for (Entity other : cells[cell])
+			if (other == e) return true;
+		return false;
+	}
+
+	private void put(Entity e, int cell) {
+		e.gridCell = cell;
+		if (cells[cell] == null) cells[cell] = new ArrayList<>();
+		cells[cell].add(e);
+	}
+
+	/** Adds the entity to the bucket of its current position. If it is already in the grid, it is moved instead. */
+	void add(Entity e) {
+		maxRadius = Math.max(maxRadius, e.getRadius());
+		int cell = cellOf(e);
+		int prev = e.gridCell;
+		if (prev == cell && inCell(e, prev)) return;
+		if (prev >= 0 && prev < cells.length) removeFrom(cells[prev], e);
+		put(e, cell);
+	}
+
+	void remove(Entity e) {
+		int prev = e.gridCell;
+		if (prev < 0) return; // It was never put in a grid.
+		if (prev < cells.length && removeFrom(cells[prev], e)) return;
+
+		// It was put in the grid of another level since, so the cell is of that one; it only ever is for a tick.
+		for (List<Entity> bucket : cells)
+			if (removeFrom(bucket, e)) return;
+	}
+
+	/** Moves the entity to another bucket if its position has left the one it was in. Entities not in the grid are ignored. */
+	void update(Entity e) {
+		int prev = e.gridCell;
+		int cell = cellOf(e);
+		if (prev == cell || prev < 0 || prev >= cells.length || !removeFrom(cells[prev], e)) return;
+		put(e, cell);
+	}
+
+	void clear() {
+		for (List<Entity> cell : cells)
+			if (cell != null) cell.clear();
+	}
+
+	/** Adds all the entities whose center tile is within the given tile bounds, inclusive, to the list. */
+	void getInTiles(int xt0, int yt0, int xt1, int yt1, List<Entity> result) {
+		int cx0 = cellX(xt0 << 4), cy0 = cellY(yt0 << 4);
+		int cx1 = cellX(xt1 << 4), cy1 = cellY(yt1 << 4);
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				List<Entity> cell = cells[cx + cy * gw];
+				if (cell == null) continue;
+				for (Entity e : cell) {
+					int xt = e.x >> 4;
+					int yt = e.y >> 4;
+					if (xt >= xt0 && xt <= xt1 && yt >= yt0 && yt <= yt1)
+						result.add(e);
+				}
+			}
+		}
+	}
+
+	/** Returns true if there is an entity whose center is on the given tile. */
+	boolean anyInTile(int xt, int yt) {
+		List<Entity> cell = cells[cellX(xt << 4) + cellY(yt << 4) * gw];
+		if (cell == null) return false;
+		for (Entity e : cell)
+			if (e.x >> 4 == xt && e.y >> 4 == yt)
+				return true;
+		return false;
+	}
+
+	/** Pushes all the entities touching the area onto the scratch stack. */
+	void gatherInRect(IntRect area, Scratch scratch) {
+		int cx0 = cellX(area.x0 - maxRadius), cy0 = cellY(area.y0 - maxRadius);
+		int cx1 = cellX(area.x1 + maxRadius), cy1 = cellY(area.y1 + maxRadius);
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				List<Entity> cell = cells[cx + cy * gw];
+				if (cell == null) continue;
+				for (int i = 0; i < cell.size(); i++) { // Indexed, as an iterator would be allocated.
+					Entity e = cell.get(i);
+					if (e.isTouching(area)) scratch.push(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The entities gathered by the queries running on a thread, which are kept until their query is done with them.
+	 * A query run from within another pushes its entities on top of those of the other, and pops them when done,
+	 * so the same buffer serves every query on the thread without being allocated again.
+	 */
+	static class Scratch {
+		Entity[] entities = new Entity[64];
+		int top = 0;
+
+		void push(Entity e) {
+			if (top == entities.length) entities = Arrays.copyOf(entities, top * 2);
+			entities[top++] = e;
+		}
+
+		/** Drops the entities above the given height, so they aren't kept from being collected. */
+		void popTo(int height) {
+			Arrays.fill(entities, height, top, null);
+			top = height;
+		}
+	}
+
+	/** Adds all the entities touching the area, and accepted by the filter if one is given, to the list. */
+	void getInRect(Rectangle area, Predicate<Entity> filter, List<Entity> result) {
+		int cx0 = cellX(area.getLeft() - maxRadius), cy0 = cellY(area.getTop() - maxRadius);
+		int cx1 = cellX(area.getRight() + maxRadius), cy1 = cellY(area.getBottom() + maxRadius);
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				List<Entity> cell = cells[cx + cy * gw];
+				if (cell == null) continue;
+				for (Entity e : cell) {
+					if ((filter == null || filter.test(e)) && e.isTouching(area))
+						result.add(e);
+				}
+			}
+		}
+	}
+}
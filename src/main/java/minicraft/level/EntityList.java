@@ -0,0 +1,166 @@
+package minicraft.level;
+
+import minicraft.entity.Entity;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The entities of a level, in a dense array that is cheap to iterate, along with the entities waiting to be added and removed.
+ * An entity is removed by moving the last one into its place, so the order of the entities is not kept.
+ * Membership is tracked in bit sets indexed by entity id, so none of the checks have to search. The sets grow to the
+ * highest id handed out in the session and don't shrink; at one bit per id, a million ids take 128 KB per set.
+ */
+class EntityList {
+	private Entity[] entities = new Entity[64];
+	private int[] skipped = new int[64]; // The ticks each entity has missed while dormant.
+	private int size = 0;
+	private final BitSet present = new BitSet(); // The ids of the entities in the array.
+
+	private final Pending toAdd = new Pending();
+	private final Pending toRemove = new Pending();
+
+	int size() { return size; }
+
+	Entity get(int index) { return entities[index]; }
+
+	/** Counts a tick the entity at the index missed. */
+	void skip(int index) { skipped[index]++; }
+
+	/** Returns the ticks the entity at the index has missed, and starts counting over. */
+	int takeSkipped(int index) {
+		int ticks = skipped[index];
+		skipped[index] = 0;
+		return ticks;
+	}
+
+	boolean contains(Entity e) { return e.eid >= 0 && present.get(e.eid); }
+
+	/** Adds the entity, unless it is already in the list. Returns true if it was added. */
+	boolean add(Entity e) {
+		if (e.eid < 0 || present.get(e.eid)) return false;
+		present.set(e.eid);
+
+		if (size == entities.length) {
+			entities = Arrays.copyOf(entities, size * 2);
+			skipped = Arrays.copyOf(skipped, size * 2);
+		}
+		e.levelIndex = size;
+		skipped[size] = 0;
+		entities[size++] = e;
+		return true;
+	}
+
+	/** Removes the entity, if it is in the list. Returns true if it was removed. */
+	boolean remove(Entity e) {
+		if (!contains(e)) return false;
+
+		int index = e.levelIndex;
+		if (index < 0 || index >= size || entities[index] != e) { // It was put in another level since; it only ever is for a tick.
+			index = 0;
+			while (index < size && entities[index] != e) index++;
+			if (index == size) return false; // Another entity with the same id is here instead.
+		}
+
+		present.clear(e.eid);
+		Entity last = entities[--size];
+		entities[index] = last;
+		skipped[index] = skipped[size];
+		last.levelIndex = index;
+		entities[size] = null;
+		return true;
+	}
+
+	void clear() {
+		Arrays.fill(entities, 0, size, null);
+		size = 0;
+		present.clear();
+	}
+
+	Entity[] toArray() { return Arrays.copyOf(entities, size); }
+
+	/** Queues the entity to be added, replacing any queued removal of it, so the most recent request is satisfied. */
+	void queueAdd(Entity e) {
+		toRemove.cancel(e);
+		toAdd.offer(e);
+	}
+
+	/** Queues the entity to be removed, replacing any queued addition of it. */
+	void queueRemove(Entity e) {
+		toAdd.cancel(e);
+		toRemove.offer(e);
+	}
+
+	/** Returns the next entity queued to be added, in the order they were queued, or null if there are no more. */
+	Entity pollAdd() { return toAdd.poll(); }
+	Entity pollRemove() { return toRemove.poll(); }
+
+	int pendingAddCount() { return toAdd.count; }
+
+	Entity[] getPendingAdds() { return toAdd.toArray(); }
+
+	/**
+	 * A queue of entities, which keeps the order they were queued in and each entity only once.
+	 * Cancelling one only clears its bit, and it is skipped when its turn comes; so is one that has gone back to its pool since, and has no id.
+	 */
+	private static class Pending {
+		private Entity[] queue = new Entity[16];
+		private int head = 0, tail = 0;
+		private int count = 0; // The entities queued and not cancelled.
+		private final BitSet queued = new BitSet();
+
+		void offer(Entity e) {
+			if (e.eid < 0 || queued.get(e.eid)) return;
+			queued.set(e.eid);
+			count++;
+
+			if (tail == queue.length) {
+				if (head > queue.length / 2) { // Mostly drained; moves the rest to the start instead of growing.
+					System.arraycopy(queue, head, queue, 0, tail - head);
+					Arrays.fill(queue, tail - head, tail, null);
+				} else {
+					queue = Arrays.copyOfRange(queue, head, queue.length * 2);
+				}
+				tail -= head;
+				head = 0;
+			}
+			queue[tail++] = e;
+		}
+
+		void cancel(Entity e) {
+			if (e.eid < 0 || !queued.get(e.eid)) return;
+			queued.clear(e.eid);
+			count--;
+		}
+
+		Entity poll() {
+			while (head < tail) {
+				Entity e = queue[head];
+				queue[head++] = null;
+				if (e.eid >= 0 && queued.get(e.eid)) {
+					queued.clear(e.eid);
+					count--;
+					return e;
+				}
+			}
+
+			head = tail = 0;
+			return null;
+		}
+
+		Entity[] toArray() {
+			Entity[] result = new Entity[count];
+			BitSet seen = new BitSet(); // A cancelled entity that was queued again is in the queue twice.
+			int i = 0;
+			for (int j = head; j < tail && i < count; j++) {
+				Entity e = queue[j];
+				if (e.eid >= 0 && queued.get(e.eid) && !seen.get(e.eid)) {
+					seen.set(e.eid);
+					result[i++] = e;
+				}
+			}
+
+			return result;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package minicraft.level;
+
+import minicraft.entity.mob.Mob;
+import minicraft.entity.mob.Player;
+
+import java.util.Arrays;
+
+/**
+ * The number of steps to a player from each tile around them, for one kind of mob, so the mobs chasing the player can go around
+ * whatever is in the way. The steps are found by a breadth-first search over the tiles the mob may pass, out to {@link #RADIUS}
+ * tiles from the player, and searched again only once the player moves to another tile or a tile in range changes;
+ * all the mobs of that kind chasing the player then look up their next step from it.
+ * Which tiles may be passed depends on the mob, so each kind of mob has its own field.
+ */
+class FlowField {
+	static final int RADIUS = 12; // Further than any mob detects players from.
+	private static final int SIZE = RADIUS * 2 + 1;
+
+	final Player player;
+	final Class<? extends Mob> kind;
+	int lastUsed; // The tick of the level this was last looked up on, to discard it once it isn't.
+
+	private final short[] steps = new short[SIZE * SIZE]; // The steps to the player, plus one; 0 if the player can't be reached.
+	private final int[] queue = new int[SIZE * SIZE];
+	private int cx, cy; // The tile of the player when last searched.
+	private boolean dirty = true;
+
+	FlowField(Player player, Class<? extends Mob> kind) {
+		this.player = player;
+		this.kind = kind;
+	}
+
+	/** Marks the field to be searched again, if the tile is in range of it. */
+	void tileChanged(int x, int y) {
+		if (Math.abs(x - cx) <= RADIUS && Math.abs(y - cy) <= RADIUS)
+			dirty = true;
+	}
+
+	/**
+	 * Returns the tile the mob should move to from the given tile to get closer to the player, as x + y * w,
+	 * which is the tile itself if the player is on it; or -1 if the player can't be reached from it.
+	 */
+	int next(Level level, Mob mob, int xt, int yt) {
+		int px = player.x >> 4, py = player.y >> 4;
+		if (dirty || px != cx || py != cy) search(level, mob, px, py);
+
+		int lx = xt - cx + RADIUS, ly = yt - cy + RADIUS;
+		if (lx < 0 || ly < 0 || lx >= SIZE || ly >= SIZE) return -1;
+		int current = steps[lx + ly * SIZE];
+		if (current == 0) return -1;
+		if (current == 1) return xt + yt * level.w;
+
+		// Takes the neighbour closest to the player. Diagonal steps are only taken if both tiles beside them may be passed, so corners aren't cut.
+		int best = current, bx = 0, by = 0;
+		for (int dy = -1; dy <= 1; dy++) {
+			for (int dx = -1; dx <= 1; dx++) {
+				if (dx == 0 && dy == 0) continue;
+				int s = get(lx + dx, ly + dy);
+				if (s == 0 || s >= best) continue;
+				if (dx != 0 && dy != 0 && (get(lx + dx, ly) == 0 || get(lx, ly + dy) == 0)) continue;
+				best = s;
+				bx = dx;
+				by = dy;
+			}
+		}
+
+		return xt + bx + (yt + by) * level.w;
+	}
+
+	private int get(int lx, int ly) {
+		if (lx < 0 || ly < 0 || lx >= SIZE || ly >= SIZE) return 0;
+		return steps[lx + ly * SIZE];
+	}
+
+	/** Finds the steps to the player from each tile in range, starting from the player's tile. */
+	private void search(Level level, Mob mob, int px, int py) {
+		cx = px;
+		cy = py;
+		dirty = false;
+		Arrays.fill(steps, (short) 0);
+
+		int head = 0, tail = 0;
+		steps[RADIUS + RADIUS * SIZE] = 1;
+		queue[tail++] = RADIUS + RADIUS * SIZE;
+		while (head < tail) {
+			int i = queue[head++];
+			int lx = i % SIZE, ly = i / SIZE;
+			short next = (short) (steps[i] + 1);
+			for (int d = 0; d < 4; d++) {
+				int nx = lx + (d == 0 ? -1 : d == 1 ? 1 : 0);
+				int ny = ly + (d == 2 ? -1 : d == 3 ? 1 : 0);
+				if (nx < 0 || ny < 0 || nx >= SIZE || ny >= SIZE) continue;
+				int n = nx + ny * SIZE;
+				if (steps[n] != 0) continue;
+
+				int xt = nx + cx - RADIUS, yt = ny + cy - RADIUS;
+				if (xt < 0 || yt < 0 || xt >= level.w || yt >= level.h) continue;
+				if (!level.getTile(xt, yt).mayPass(level, xt, yt, mob)) continue;
+
+				steps[n] = next;
+				queue[tail++] = n;
+			}
+		}
+	}
+}
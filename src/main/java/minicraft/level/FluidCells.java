@@ -0,0 +1,63 @@
+package minicraft.level;
+
+import minicraft.level.tile.Tile;
+import minicraft.level.tile.Tiles;
+
+import java.util.BitSet;
+
+/**
+ * The fluid tiles of a level that may still flow: water and lava next to a hole, and water next to lava.
+ * Fluid tiles add themselves from {@link Tile#onChange} when such a neighbour appears,
+ * and every few ticks a bounded batch of them is ticked, in the order they were added.
+ * A cell is dropped once it has been ticked, as it has flowed into all its holes by then,
+ * so a lake that has nowhere to flow costs nothing.
+ */
+class FluidCells {
+	private static final int FLOW_INTERVAL = 8; // Ticks between each step of flowing; the fluid spreads a tile each step.
+	private static final int BATCH = 256; // The most cells ticked in a step.
+
+	private final int w;
+	private final BitSet active = new BitSet(); // The positions in the queue.
+	private int[] queue = new int[64]; // A ring buffer of the active positions.
+	private int head = 0, size = 0;
+	private int ticks = 0;
+
+	FluidCells(Level level) {
+		w = level.w;
+	}
+
+	int size() { return size; }
+
+	void add(int x, int y) {
+		int pos = x + y * w;
+		if (active.get(pos)) return;
+		active.set(pos);
+
+		if (size == queue.length) {
+			int[] larger = new int[size * 2];
+			for (int i = 0; i < size; i++)
+				larger[i] = queue[(head + i) % queue.length];
+			queue = larger;
+			head = 0;
+		}
+		queue[(head + size++) % queue.length] = pos;
+	}
+
+	/** Ticks the cells that were active at the start of the step, up to {@link #BATCH} of them, if a step is due. */
+	void tick(Level level) {
+		if (size == 0 || ++ticks < FLOW_INTERVAL) return;
+		ticks = 0;
+
+		for (int count = Math.min(size, BATCH); count > 0; count--) {
+			int pos = queue[head];
+			head = (head + 1) % queue.length;
+			size--;
+			active.clear(pos);
+
+			int x = pos % w, y = pos / w;
+			Tile tile = level.getTile(x, y);
+			if (tile == Tiles.WATER || tile == Tiles.LAVA) // It may have been picked up with a bucket since.
+				tile.tick(level, x, y);
+		}
+	}
+}
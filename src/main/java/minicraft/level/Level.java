@@ -1,11 +1,13 @@
 package minicraft.level;
 
 import minicraft.core.Game;
+import minicraft.core.Profiler;
 import minicraft.core.Updater;
 import minicraft.core.World;
 import minicraft.core.io.Localization;
 import minicraft.core.io.Settings;
 import minicraft.entity.Entity;
+import minicraft.entity.EntityRegistry;
 import minicraft.entity.ItemEntity;
 import minicraft.entity.furniture.Chest;
 import minicraft.entity.furniture.DungeonChest;
@@ -25,23 +27,26 @@ import minicraft.entity.mob.Skeleton;
 import minicraft.entity.mob.Slime;
 import minicraft.entity.mob.Snake;
 import minicraft.entity.mob.Zombie;
+import minicraft.gfx.IntRect;
 import minicraft.gfx.Point;
 import minicraft.gfx.Rectangle;
 import minicraft.gfx.Screen;
+import minicraft.gfx.SpriteAnimation;
 import minicraft.item.Item;
+import minicraft.item.StackableItem;
 import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
-import minicraft.level.tile.TorchTile;
 import minicraft.util.Logging;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 
@@ -52,6 +57,12 @@ public class Level {
 	public static String getLevelName(int depth) { return levelNames[-1 * depth + 1]; }
 	public static String getDepthString(int depth) { return Localization.getLocalized("minicraft.displays.loading.message.level", depth < 0 ? "B" + (-depth) : depth); }
 
+	private static final int LIGHT_RANGE = 8; // The tiles around the screen within which light sources are rendered; the game stops rendering the light of those further off screen.
+	private static final int MAX_DROPS_PER_TILE = 4; // Past this many drops on a tile, new drops are stacked onto those next to it too.
+	private static final int SPAWN_RANGE = 40; // The distance in tiles around players to pick the tiles mobs spawn on from; covers the distances checked in trySpawn.
+	private static final int FLOW_FIELD_LIFETIME = 60; // The ticks a flow field is kept without being used.
+	private static final int DORMANT_INTERVAL = 8; // Dormant entities are ticked once every this many ticks. Must be a power of two.
+	private static final int[] activeRadii = {0, 96, 48, 24}; // How far from a player entities stay awake, in tiles, for each option of the "simdist" setting. 0 means everywhere.
 	private static final int MOB_SPAWN_FACTOR = 100; // The chance of a mob actually trying to spawn when trySpawn is called equals: mobCount / maxMobCount * MOB_SPAWN_FACTOR. so, it basically equals the chance, 1/number, of a mob spawning when the mob cap is reached. I hope that makes sense...
 
 	public int w, h; // Width and height of the level
@@ -65,12 +76,25 @@ public class Level {
 	public int maxMobCount;
 	public int chestCount;
 	public int mobCount = 0;
+	public int dormantCount = 0; // The entities that were dormant in the last tick.
 
 	private final Object entityLock = new Object(); // I will be using this lock to avoid concurrency exceptions in entities and sparks set
-	private final Set<Entity> entities = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the entities in the world
+	private final EntityList entities = new EntityList(); // All the entities in the world, and those that will be added or removed on the next tick.
 	private final Set<Player> players = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the players in the world
-	private final List<Entity> entitiesToAdd = new ArrayList<>(); /// entities that will be added to the level on next tick are stored here. This is for the sake of multithreading optimization. (hopefully)
-	private final List<Entity> entitiesToRemove = new ArrayList<>(); /// entities that will be removed from the level on next tick are stored here. This is for the sake of multithreading optimization. (hopefully)
+	private final EntityGrid entityGrid; // A spatial index of the entities in the world, used for the area queries.
+	private LightMap lightMap = null; // The light level of each tile; built when first needed.
+	private TickScheduler tickScheduler = null; // The scheduled tile ticks; built when first needed.
+	private FluidCells fluidCells = null; // The fluid tiles that may still flow; built along with the tick scheduler.
+	private SpawnIndex spawnIndex = null; // The tiles mobs may spawn on; built when first needed.
+	private ConnectionMasks connectionMasks = null; // The tiles connective sprites connect to around each tile; built when first rendered.
+	private static volatile TerrainCache terrainCache = null; // The rendered tiles of the level last rendered.
+	private final List<FlowField> flowFields = new ArrayList<>(); // The ways to the players, for the mobs chasing them.
+	private final LevelScheduler scheduler = new LevelScheduler(); // Delayed work, like TNT blasts.
+	private int entityTicks = 0; // The full ticks so far, to stagger the dormant entities with.
+	private final List<ItemEntity> newDrops = new ArrayList<>(); // The item entities dropped since the last tick, which aren't in the grid yet.
+	private int[] playerPositions = new int[2]; // The positions of the players, as x, y pairs; updated every tick.
+
+	private static final ThreadLocal<EntityGrid.Scratch> scratch = ThreadLocal.withInitial(EntityGrid.Scratch::new); // The entities gathered by the queries on each thread.
 
 	// Creates a sorter for all the entities to be rendered.
 	//private static Comparator<Entity> spriteSorter = Comparator.comparingInt(e -> e.y); // Broken
@@ -81,9 +105,9 @@ public class Level {
 	});
 
 	public Entity[] getEntitiesToSave() {
-		Entity[] allEntities = new Entity[entities.size() + entitiesToAdd.size()];
-		Entity[] toAdd = entitiesToAdd.toArray(new Entity[0]);
+		Entity[] toAdd = entities.getPendingAdds();
 		Entity[] current = getEntityArray();
+		Entity[] allEntities = new Entity[current.length + toAdd.length];
 		System.arraycopy(current, 0, allEntities, 0, current.length);
 		System.arraycopy(toAdd, 0, allEntities, current.length, toAdd.length);
 
@@ -124,12 +148,24 @@ public class Level {
 	}
 
 	public Level(int w, int h, long seed, int level, Level parentLevel, boolean makeWorld) {
+		this(w, h, seed, level, parentLevel, makeWorld, null);
+	}
+
+	/**
+	 * Makes a new level from the given tiles and data, which should come from {@link LevelGen#createAndValidateMap(int, int, int, long)} with the same arguments.
+	 * This lets the maps of all the levels be generated in parallel, before the levels themselves are made.
+	 */
+	public Level(int w, int h, long seed, int level, Level parentLevel, short[][] maps) {
+		this(w, h, seed, level, parentLevel, true, maps);
+	}
+
+	private Level(int w, int h, long seed, int level, Level parentLevel, boolean makeWorld, @Nullable short[][] maps) {
 		depth = level;
 		this.w = w;
 		this.h = h;
 		this.seed = seed;
 		random = new Random(seed);
-		short[][] maps; // Multidimensional array (an array within a array), used for the map
+		entityGrid = new EntityGrid(w, h);
 
 		if (level != -4 && level != 0)
 			monsterDensity = 8;
@@ -145,7 +181,8 @@ public class Level {
 
 		Logging.WORLD.debug("Making level " + level + "...");
 
-		maps = LevelGen.createAndValidateMap(w, h, level, seed);
+		if (maps == null) // The tiles and data of the map, unless they were generated beforehand.
+			maps = LevelGen.createAndValidateMap(w, h, level, seed);
 		if (maps == null) {
 			Logging.WORLD.error("Level generation: Returned maps array is null");
 			return;
@@ -166,19 +203,19 @@ public class Level {
 		if (parentLevel != null) { // If the level above this one is not null (aka, if this isn't a sky level)
 			for (int y = 0; y < h; y++) { // Loop through height
 				for (int x = 0; x < w; x++) { // Loop through width
-					if (parentLevel.getTile(x, y) == Tiles.get("Stairs Down")) { // If the tile in the level above the current one is a stairs down then...
+					if (parentLevel.getTile(x, y) == Tiles.STAIRS_DOWN) { // If the tile in the level above the current one is a stairs down then...
 						if (level == -4) { /// Make the obsidian wall formation around the stair in the dungeon level
 							Structure.dungeonGate.draw(this, x, y); // Te gate should not intersect with the boss room.
 							Structure.dungeonBossRoom.draw(this, w/2, h/2); // Generating the boss room at the center.
 						}
 						else if (level == 0) { // Surface
 							Logging.WORLD.trace("Setting tiles around " + x + "," + y + " to hard rock");
-							setAreaTiles(x, y, 1, Tiles.get("Hard Rock"), 0); // surround the sky stairs with hard rock
+							setAreaTiles(x, y, 1, Tiles.HARD_ROCK, 0); // surround the sky stairs with hard rock
 						}
 						else // Any other level, the up-stairs should have dirt on all sides.
-							setAreaTiles(x, y, 1, Tiles.get("dirt"), 0);
+							setAreaTiles(x, y, 1, Tiles.DIRT, 0);
 
-						setTile(x, y, Tiles.get("Stairs Up")); // Set a stairs up tile in the same position on the current level
+						setTile(x, y, Tiles.STAIRS_UP); // Set a stairs up tile in the same position on the current level
 					}
 				}
 			}
@@ -189,8 +226,8 @@ public class Level {
 				int x = random.nextInt(this.w - 7);
 				int y = random.nextInt(this.h - 5);
 
-				if (this.getTile(x - 3, y - 2) == Tiles.get("Cloud") && this.getTile(x + 3, y - 2) == Tiles.get("Cloud")) {
-					if (this.getTile(x - 3, y + 2) == Tiles.get("Cloud") && this.getTile(x + 3, y + 2) == Tiles.get("Cloud")) {
+				if (this.getTile(x - 3, y - 2) == Tiles.CLOUD && this.getTile(x + 3, y - 2) == Tiles.CLOUD) {
+					if (this.getTile(x - 3, y + 2) == Tiles.CLOUD && this.getTile(x + 3, y + 2) == Tiles.CLOUD) {
 						Structure.airWizardHouse.draw(this, x, y);
 
 						placedHouse = true;
@@ -203,7 +240,7 @@ public class Level {
 
 		checkAirWizard();
 
-		if (Logging.logLevel) printTileLocs(Tiles.get("Stairs Down"));
+		if (Logging.logLevel) printTileLocs(Tiles.STAIRS_DOWN);
 	}
 
 	public Level(int w, int h, int level, Level parentLevel, boolean makeWorld) {
@@ -227,12 +264,7 @@ public class Level {
 
 			boolean found = false;
 			if (check) {
-				for (Entity e: entitiesToAdd)
-					if (e instanceof AirWizard) {
-						found = true;
-						break;
-					}
-				for (Entity e: entities)
+				for (Entity e: getEntitiesToSave())
 					if (e instanceof AirWizard) {
 						found = true;
 						break;
@@ -256,10 +288,7 @@ public class Level {
 		int numChests = 0;
 
 		if (check) {
-			for (Entity e: entitiesToAdd)
-				if (e instanceof DungeonChest)
-					numChests++;
-			for (Entity e: entities)
+			for (Entity e: getEntitiesToSave())
 				if (e instanceof DungeonChest)
 					numChests++;
 			Logging.WORLDNAMED.debug("Found " + numChests + " chests.");
@@ -274,18 +303,18 @@ public class Level {
 				// Pick a random tile:
 				int x2 = random.nextInt(16 * w) / 16;
 				int y2 = random.nextInt(16 * h) / 16;
-				if (getTile(x2, y2) == Tiles.get("Grass")) {
+				if (getTile(x2, y2) == Tiles.GRASS) {
 					boolean xaxis = random.nextBoolean();
 					if (xaxis) {
 						for (int s = x2; s < w - s; s++) {
-							if (getTile(s, y2) == Tiles.get("Obsidian Wall") || getTile(s, y2) == Tiles.get("Ornate Obsidian")) {
+							if (getTile(s, y2) == Tiles.OBSIDIAN_WALL || getTile(s, y2) == Tiles.ORNATE_OBSIDIAN) {
 								d.x = s * 20 - 16;
 								d.y = y2 * 24 - 14;
 							}
 						}
 					} else { // y axis
 						for (int s = y2; s < h - s; s++) {
-							if (getTile(x2, s) == Tiles.get("Obsidian Wall") || getTile(x2, s) == Tiles.get("Ornate Obsidian")) {
+							if (getTile(x2, s) == Tiles.OBSIDIAN_WALL || getTile(x2, s) == Tiles.ORNATE_OBSIDIAN) {
 								d.x = x2 * 23 - 14;
 								d.y = s * 21 - 16;
 							}
@@ -315,6 +344,7 @@ public class Level {
 
 		if (entity != Game.player) { // Player is ticked separately, others are ticked on server
 			entity.tick(); /// The main entity tick call.
+			updateEntityPosition(entity); // Some entities move by setting their coordinates directly.
 		}
 
 		if (entity.isRemoved() || entity.getLevel() != this) {
@@ -325,8 +355,9 @@ public class Level {
 	public void tick(boolean fullTick) {
 		int count = 0;
 
-		while (entitiesToAdd.size() > 0) {
-			Entity entity = entitiesToAdd.get(0);
+		long time = Profiler.start();
+		Entity entity;
+		while ((entity = entities.pollAdd()) != null) {
 			boolean inLevel = entities.contains(entity);
 
 			if (!inLevel) {
@@ -334,45 +365,82 @@ public class Level {
 
 				synchronized (entityLock) {
 					entities.add(entity);
+					entityGrid.add(entity);
+					if (lightMap != null) lightMap.entityAdded(entity);
 					if (entity instanceof Player) {
 						players.add((Player) entity);
 					}
 				}
+			} else {
+				updateEntityPosition(entity); // The entity may have been re-added at another position.
 			}
-
-			entitiesToAdd.remove(entity);
 		}
+		newDrops.clear();
+		Profiler.ENTITY_ADDS.end(time);
 
 		if (fullTick) {
 			// This prevents any entity (or tile) tick action from happening on a server level with no players.
 
-			for (int i = 0; i < w * h / 50; i++) {
-				int xt = random.nextInt(w);
-				int yt = random.nextInt(w);
-				getTile(xt, yt).tick(this, xt, yt);
+			time = Profiler.start();
+			getTickScheduler().tick(this);
+			fluidCells.tick(this);
+			scheduler.tick();
+			if (Tiles.hasRandomTicks()) {
+				for (int i = 0; i < w * h / 50; i++) {
+					int xt = random.nextInt(w);
+					int yt = random.nextInt(h);
+					Tile tile = getTile(xt, yt);
+					if (tile.randomTicks) tile.tick(this, xt, yt);
+				}
 			}
+			Profiler.TILE_TICKS.end(time);
 
 			// Entity loop
-			for (Entity e : entities) {
-				tickEntity(e);
+			time = Profiler.start();
+			int radius = activeRadii[Settings.getIdx("simdist")] << 4;
+			int playerCount = radius > 0 ? getPlayerPositions() : 0;
+			if (playerCount == 0) radius = 0; // With no players, the level is simulated in the background, at a rate of its own, so nothing is made dormant on top of that.
+			int dormant = 0;
+			entityTicks++;
+			flowFields.removeIf(field -> entityTicks - field.lastUsed > FLOW_FIELD_LIFETIME || field.player.getLevel() != this);
+			for (int i = 0; i < entities.size(); i++) { // Additions and removals are queued, so the list stays the same throughout.
+				Entity e = entities.get(i);
 				if (e instanceof Mob) count++;
+
+				if (radius > 0 && e.canGoDormant() && !isNearPlayer(e, playerCount, radius)) {
+					dormant++;
+					if (((entityTicks + e.eid) & (DORMANT_INTERVAL - 1)) != 0) { // Staggered, so they don't all tick at once.
+						entities.skip(i);
+						continue;
+					}
+				}
+
+				int skipped = entities.takeSkipped(i);
+				if (skipped > 0) e.passTime(skipped);
+				tickEntity(e);
 			}
+			dormantCount = dormant;
+			Profiler.ENTITY_TICKS.end(time);
 		}
 
-		while (entitiesToRemove.size() > 0) {
-			Entity entity = entitiesToRemove.get(0);
-
+		time = Profiler.start();
+		while ((entity = entities.pollRemove()) != null) {
 			if (Logging.logLevel) printEntityStatus("Removing ", entity, "mob.Player");
 
 			entity.remove(this); // This will safely fail if the entity's level doesn't match this one.
+			boolean gone = entity.getLevel() == null; // It didn't go to another level.
+			if (gone) EntityRegistry.unregister(entity);
 			synchronized (entityLock) {
 				entities.remove(entity);
+				entityGrid.remove(entity);
+				if (lightMap != null) lightMap.entityRemoved(entity);
 			}
 
 			if (entity instanceof Player)
 				players.remove(entity);
-			entitiesToRemove.remove(entity);
+			if (gone) entity.onRemoved(); // Last, as a pooled entity loses its id here.
 		}
+		Profiler.ENTITY_REMOVES.end(time);
 
 		mobCount = count;
 
@@ -380,6 +448,28 @@ public class Level {
 			trySpawn();
 	}
 
+	/** Puts the positions of the players in {@link #playerPositions}, and returns how many there are. */
+	private int getPlayerPositions() {
+		Player[] players = getPlayers();
+		if (playerPositions.length < players.length * 2) playerPositions = new int[players.length * 2];
+		for (int i = 0; i < players.length; i++) {
+			playerPositions[i * 2] = players[i].x;
+			playerPositions[i * 2 + 1] = players[i].y;
+		}
+
+		return players.length;
+	}
+
+	/** Returns true if the entity is within the given distance of any of the players from {@link #getPlayerPositions()}, in a square. */
+	private boolean isNearPlayer(Entity entity, int playerCount, int distance) {
+		for (int i = 0; i < playerCount; i++) {
+			if (Math.abs(playerPositions[i * 2] - entity.x) <= distance && Math.abs(playerPositions[i * 2 + 1] - entity.y) <= distance)
+				return true;
+		}
+
+		return false;
+	}
+
 	public boolean entityNearPlayer(Entity entity) {
 		for (Player player : players) {
 			if (Math.abs(player.x - entity.x) < 128 && Math.abs(player.y - entity.y) < 76) {
@@ -389,10 +479,11 @@ public class Level {
 		return false;
 	}
 
+	/** Returns the distance of the entity from the closest player, in tiles; or the diagonal of the level, if there are no players. */
 	public double distanceOfClosestPlayer(Entity entity) {
 		double distance = Math.hypot(w, h);
 		for (Player player : players) {
-			double d = Math.hypot(Math.abs(entity.x - player.x), Math.abs(entity.y - player.y));
+			double d = Math.hypot(Math.abs(entity.x - player.x), Math.abs(entity.y - player.y)) / 16;
 			if (d < distance) distance = d;
 		}
 
@@ -427,83 +518,150 @@ public class Level {
 			dropItem(x, y, i);
 	}
 	public ItemEntity dropItem(int x, int y, Item i) {
+		if (i instanceof StackableItem) {
+			ItemEntity stack = findStack(x >> 4, y >> 4, i);
+			if (stack != null) {
+				stack.stack(i, 0);
+				return stack;
+			}
+		}
+
 		int ranx, rany;
 
 		do {
 			ranx = x + random.nextInt(11) - 5;
 			rany = y + random.nextInt(11) - 5;
 		} while (ranx >> 4 != x >> 4 || rany >> 4 != y >> 4);
-		ItemEntity ie = new ItemEntity(i, ranx, rany);
+		ItemEntity ie = ItemEntity.get(i, ranx, rany);
+		newDrops.add(ie);
 		add(ie);
 		return ie;
 	}
 
-	public void renderBackground(Screen screen, int xScroll, int yScroll) {
-		int xo = xScroll >> 4; // Latches to the nearest tile coordinate
-		int yo = yScroll >> 4;
-		int w = (Screen.w) >> 4; // There used to be a "+15" as in below method
-		int h = (Screen.h) >> 4;
-		screen.setOffset(xScroll, yScroll);
-		for (int y = yo; y <= h + yo; y++) {
-			for (int x = xo; x <= w + xo; x++) {
-				getTile(x, y).render(screen, this, x, y);
+	/**
+	 * Returns an item entity that the item can be stacked onto, on the given tile, or next to it if the tile already has
+	 * {@link #MAX_DROPS_PER_TILE} drops or more; or null if there is none, in which case the item gets an entity of its own.
+	 */
+	@Nullable
+	private ItemEntity findStack(int xt, int yt, Item item) {
+		int drops = 0; // The drops on the tile.
+		ItemEntity neighbour = null;
+		List<Entity> nearby = getEntitiesInTiles(xt - 1, yt - 1, xt + 1, yt + 1, true, ItemEntity.class);
+		nearby.addAll(newDrops); // These aren't in the grid yet.
+		for (Entity e : nearby) {
+			ItemEntity drop = (ItemEntity) e;
+			int dx = Math.abs((drop.x >> 4) - xt), dy = Math.abs((drop.y >> 4) - yt);
+			if (dx > 1 || dy > 1 || drop.isRemoved()) continue;
+
+			boolean onTile = dx == 0 && dy == 0;
+			if (onTile) drops++;
+			if (drop.canStack(item)) {
+				if (onTile) return drop;
+				if (neighbour == null) neighbour = drop;
 			}
 		}
+
+		return drops >= MAX_DROPS_PER_TILE ? neighbour : null;
+	}
+
+	/** Stacks the drops of the same item around the given one onto it. Item entities call this every so often. */
+	public void mergeDrops(ItemEntity drop) {
+		int xt = drop.x >> 4, yt = drop.y >> 4;
+		for (Entity e : getEntitiesInTiles(xt - 1, yt - 1, xt + 1, yt + 1, true, ItemEntity.class)) {
+			if (e.isRemoved()) continue; // Removed ones stay in the grid until the end of the tick.
+			drop.absorb((ItemEntity) e);
+		}
+	}
+
+	public void renderBackground(Screen screen, int xScroll, int yScroll) {
+		long time = Profiler.start();
+		screen.setOffset(xScroll, yScroll);
+		TerrainCache terrain = terrainCache;
+		if (terrain == null || !terrain.isFor(this))
+			terrainCache = terrain = new TerrainCache(this);
+		terrain.render(screen, xScroll, yScroll);
 		screen.setOffset(0, 0);
+		Profiler.BACKGROUND.end(time);
 	}
 
 	public void renderSprites(Screen screen, int xScroll, int yScroll) {
+		long time = Profiler.start();
+		screen.setOffset(xScroll, yScroll);
+		for (Entity e : getSprites(xScroll, yScroll))
+			e.render(screen);
+
+		screen.setOffset(0, 0);
+		Profiler.SPRITES.end(time);
+	}
+
+	/**
+	 * Returns the entities on the screen, when scrolled as given, in the order they are rendered in.
+	 * Those found to be no longer on the level are removed instead.
+	 */
+	public List<Entity> getSprites(int xScroll, int yScroll) {
 		int xo = xScroll >> 4; // Latches to the nearest tile coordinate
 		int yo = yScroll >> 4;
 		int w = (Screen.w + 15) >> 4;
 		int h = (Screen.h + 15) >> 4;
 
+		List<Entity> list = getEntitiesInTiles(xo - 1, yo - 1, xo + w + 1, yo + h + 1);
+		list.sort(spriteSorter);
+		list.removeIf(e -> {
+			if (e.getLevel() == this && !e.isRemoved()) return false;
+			remove(e);
+			return true;
+		});
+		return list;
+	}
+
+	public void renderLight(Screen screen, int xScroll, int yScroll, int brightness) {
+		long time = Profiler.start();
 		screen.setOffset(xScroll, yScroll);
-		sortAndRender(screen, getEntitiesInTiles(xo - 1, yo - 1, xo + w + 1, yo + h + 1));
+		for (Entity e: getLightSources(xScroll, yScroll))
+			renderLight(screen, e, brightness);
 
+		renderTileLight(screen, xScroll, yScroll, brightness);
 		screen.setOffset(0, 0);
+		Profiler.LIGHT.end(time);
 	}
 
-	public void renderLight(Screen screen, int xScroll, int yScroll, int brightness) {
+	/** Returns the entities giving off light around the screen, when scrolled as given. */
+	public List<Entity> getLightSources(int xScroll, int yScroll) {
 		int xo = xScroll >> 4;
 		int yo = yScroll >> 4;
 		int w = (Screen.w + 15) >> 4;
 		int h = (Screen.h + 15) >> 4;
+		int r = LIGHT_RANGE;
 
-		screen.setOffset(xScroll, yScroll);
+		List<Entity> entities = getEntitiesInTiles(xo - r, yo - r, w + xo + r, h + yo + r);
+		entities.removeIf(e -> e.getLightRadius() <= 0);
+		return entities;
+	}
 
-		// this specifies the maximum radius that the game will stop rendering the light from the source object once off screen
-		int r = 8;
+	/** Renders the light the entity gives off, in level coordinates. */
+	public static void renderLight(Screen screen, Entity e, int brightness) {
+		screen.renderLight(e.x - 1, e.y - 4, e.getLightRadius() * brightness);
+	}
 
-		List<Entity> entities = getEntitiesInTiles(xo - r, yo - r, w + xo + r, h + yo + r);
-		for (Entity e: entities) {
-			int lr = e.getLightRadius();
-			if (lr > 0) screen.renderLight(e.x - 1, e.y - 4, lr * brightness);
-		}
+	/** Renders the light of the tiles around the screen, when scrolled as given, in level coordinates. */
+	public void renderTileLight(Screen screen, int xScroll, int yScroll, int brightness) {
+		int xo = xScroll >> 4;
+		int yo = yScroll >> 4;
+		int w = (Screen.w + 15) >> 4;
+		int h = (Screen.h + 15) >> 4;
+		int r = LIGHT_RANGE;
 
+		LightMap lightMap = getLightMap();
 		for (int y = yo - r; y <= h + yo + r; y++) {
 			for (int x = xo - r; x <= w + xo + r; x++) {
-				if (x < 0 || y < 0 || x >= this.w || y >= this.h) continue;
-
-				int lr = getTile(x, y).getLightRadius(this, x, y);
+				int lr = lightMap.getSourceRadius(x, y);
 				if (lr > 0) screen.renderLight(x * 16 + 8, y * 16 + 8, lr * brightness);
 			}
 		}
-		screen.setOffset(0, 0);
-	}
-
-	private void sortAndRender(Screen screen, List<Entity> list) {
-		list.sort(spriteSorter);
-		for (Entity e : list) {
-			if (e.getLevel() == this && !e.isRemoved())
-				e.render(screen);
-			else
-				remove(e);
-		}
 	}
 
 	public Tile getTile(int x, int y) {
-		if (x < 0 || y < 0 || x >= w || y >= h /* || (x + y * w) >= tiles.length*/ ) return Tiles.get("connector tile");
+		if (x < 0 || y < 0 || x >= w || y >= h /* || (x + y * w) >= tiles.length*/ ) return Tiles.CONNECTOR;
 		int id = tiles[x + y * w];
 		if(id < 0) id += 256;
 		return Tiles.get(id);
@@ -528,6 +686,25 @@ public class Level {
 
 		tiles[x + y * w] = t.id;
 		data[x + y * w] = (short) dataVal;
+
+		if (lightMap != null && lightMap.isFor(tiles)) lightMap.tileChanged(x, y);
+		if (spawnIndex != null && spawnIndex.isFor(tiles)) spawnIndex.update(this, x, y);
+		if (connectionMasks != null && connectionMasks.isFor(tiles)) connectionMasks.tileChanged(x, y);
+		for (int i = 0; i < flowFields.size(); i++) flowFields.get(i).tileChanged(x, y);
+		terrainChanged(x, y);
+		if (tickScheduler != null && tickScheduler.isFor(tiles)) {
+			t.onChange(this, x, y);
+			getTile(x - 1, y).onChange(this, x - 1, y);
+			getTile(x + 1, y).onChange(this, x + 1, y);
+			getTile(x, y - 1).onChange(this, x, y - 1);
+			getTile(x, y + 1).onChange(this, x, y + 1);
+		}
+	}
+
+	/** Has the tile rendered again, if this level is the one rendered. */
+	private void terrainChanged(int x, int y) {
+		TerrainCache terrain = terrainCache;
+		if (terrain != null && terrain.isFor(this)) terrain.tileChanged(x, y);
 	}
 
 	public int getData(int x, int y) {
@@ -538,8 +715,41 @@ public class Level {
 	public void setData(int x, int y, int val) {
 		if (x < 0 || y < 0 || x >= w || y >= h) return;
 		data[x + y * w] = (short) val;
+
+		for (int i = 0; i < flowFields.size(); i++) flowFields.get(i).tileChanged(x, y); // Like doors opening and closing.
+		terrainChanged(x, y);
+		if (tickScheduler != null && tickScheduler.isFor(tiles)) getTile(x, y).onChange(this, x, y);
+	}
+
+	/** Ticks the tile at the given position after the given number of ticks of this level, unless it is already due sooner. */
+	public void scheduleTick(int x, int y, int delay) {
+		if (x < 0 || y < 0 || x >= w || y >= h) return;
+		getTickScheduler().schedule(x, y, delay);
 	}
 
+	/** Lets the fluid at the given position flow on the next steps of the fluid simulation. */
+	public void activateFluid(int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h) return;
+		getTickScheduler(); // Makes sure the fluid cells are for the current tiles.
+		fluidCells.add(x, y);
+	}
+
+	/** Returns the number of fluid tiles that may still flow. */
+	public int getActiveFluidCount() { return fluidCells == null ? 0 : fluidCells.size(); }
+
+	/** Returns the number of scheduled tile ticks pending. */
+	public int getScheduledTickCount() { return tickScheduler == null ? 0 : tickScheduler.size(); }
+
+	/**
+	 * Runs the action after the given number of ticks of this level, on the thread ticking it.
+	 * Use this instead of timers for anything that changes the level later.
+	 * @return The task, which can be cancelled until it runs.
+	 */
+	public LevelScheduler.Task schedule(int delay, Runnable action) { return scheduler.schedule(delay, action); }
+
+	/** Returns the number of tasks scheduled with {@link #schedule(int, Runnable)} pending. */
+	public int getScheduledTaskCount() { return scheduler.size(); }
+
 	public void add(Entity e) { if(e==null) return; add(e, e.x, e.y); }
 	public void add(Entity entity, int x, int y) { add(entity, x, y, false); }
 	public void add(Entity entity, int x, int y, boolean tileCoords) {
@@ -549,16 +759,13 @@ public class Level {
 			y = y * 16 + 8;
 		}
 		entity.setLevel(this, x, y);
+		EntityRegistry.register(entity);
 
-		entitiesToRemove.remove(entity); // To make sure the most recent request is satisfied.
-		if (!entitiesToAdd.contains(entity))
-			entitiesToAdd.add(entity);
+		entities.queueAdd(entity);
 	}
 
 	public void remove(Entity e) {
-		entitiesToAdd.remove(e);
-		if (!entitiesToRemove.contains(e))
-			entitiesToRemove.add(e);
+		entities.queueRemove(e);
 	}
 
 	/** Natural spawn. */
@@ -567,20 +774,26 @@ public class Level {
 		if (spawnSkipChance > 0 && random.nextInt(spawnSkipChance) != 0)
 			return; // Hopefully will make mobs spawn a lot slower.
 
+		// First part prevents enemy mob spawn on surface on first day, more or less.
+		boolean enemies = Updater.getTime() == Updater.Time.Night && Updater.pastDay1 || depth != 0;
+		SpawnIndex index = getSpawnIndex();
 		boolean spawned = false;
 		for (Player player : players) {
 			int lvl = World.lvlIdx(player.getLevel().depth);
+			int xt = player.x >> 4, yt = player.y >> 4;
 			for (int i = 0; i < 30 && !spawned; i++) {
 				int rnd = random.nextInt(100);
-				int nx = random.nextInt(w) * 16 + 8, ny = random.nextInt(h) * 16 + 8;
-				double distance = Math.hypot(Math.abs(nx - player.x), Math.abs(ny - player.y));
+				// Picks among the tiles mobs may spawn on around the player, rather than any tile of the level.
+				int pos = index.pick(enemies ? SpawnIndex.ENEMY : SpawnIndex.PASSIVE, xt - SPAWN_RANGE, yt - SPAWN_RANGE, xt + SPAWN_RANGE, yt + SPAWN_RANGE, random);
+				if (pos < 0) break;
+				int nx = pos % w * 16 + 8, ny = pos / w * 16 + 8;
+				double distance = Math.hypot(Math.abs(nx - player.x), Math.abs(ny - player.y)) / 16; // In tiles.
 				if (distance < 10 || distance > 40) continue; // Spawns only between 10 and 40 tiles far from players.
 
 				//System.out.println("trySpawn on level " + depth + " of lvl " + lvl + " mob w/ rand " + rnd + " at tile " + nx + "," + ny);
 
-				// Spawns the enemy mobs; first part prevents enemy mob spawn on surface on first day, more or less.
-				if ((Updater.getTime() == Updater.Time.Night && Updater.pastDay1 || depth != 0) && EnemyMob.checkStartPos(this, nx, ny)
-					&& !isLight(nx, ny)) { // if night or underground, with a valid tile and dim place, spawn an enemy mob.
+				// Spawns the enemy mobs.
+				if (enemies && EnemyMob.checkStartPos(this, nx, ny)) { // if night or underground, with a valid tile and dim place, spawn an enemy mob.
 
 					if (depth != -4) { // Normal mobs
 						if (rnd <= 40) add((new Slime(lvl)), nx, ny);
@@ -621,21 +834,30 @@ public class Level {
 	}
 
 	public void clearEntities() {
-		entities.clear();
+		synchronized (entityLock) {
+			for (int i = 0; i < entities.size(); i++)
+				EntityRegistry.unregister(entities.get(i));
+			entities.clear();
+			entityGrid.clear();
+		}
+		lightMap = null;
 	}
 
-	public Entity[] getEntityArray() {
-		Entity[] entityArray;
-		int index = 0;
-
+	/**
+	 * Updates the spatial index after the entity has moved. This should be called whenever an entity in this level changes its position.
+	 * @param entity The entity which has moved.
+	 */
+	public void updateEntityPosition(Entity entity) {
 		synchronized (entityLock) {
-			entityArray = new Entity[entities.size()];
-			for (Entity entity : entities) {
-				entityArray[index++] = entity;
-			}
+			entityGrid.update(entity);
 		}
+		if (lightMap != null) lightMap.entityMoved(entity);
+	}
 
-		return entityArray;
+	public Entity[] getEntityArray() {
+		synchronized (entityLock) {
+			return entities.toArray();
+		}
 	}
 
 	public List<Entity> getEntitiesInTiles(int xt, int yt, int radius) { return getEntitiesInTiles(xt, yt, radius, false); }
@@ -665,26 +887,25 @@ public class Level {
 	@SafeVarargs
 	public final List<Entity> getEntitiesInTiles(int xt0, int yt0, int xt1, int yt1, boolean includeGiven, Class<? extends Entity>... entityClasses) {
 		List<Entity> contained = new ArrayList<>();
-		for (Entity e: getEntityArray()) {
-			int xt = e.x >> 4;
-			int yt = e.y >> 4;
-
-			// Check if entity is in area.
-			if (xt >= xt0 && xt <= xt1 && yt >= yt0 && yt <= yt1) {
-				boolean matches = false;
-
-				// Look through all entity classes to see if they match the current entity we are at.
-				for (int i = 0; !matches && i < entityClasses.length; i++)
-					// If the current entity and an entity class match.
-					matches = entityClasses[i].isAssignableFrom(e.getClass());
-
-				// Add if the current entity matches an entity class and includeGiven is true.
-				// If includeGiven is false, add if it doesn't match.
-				if (matches == includeGiven)
-					contained.add(e);
-			}
+		synchronized (entityLock) {
+			entityGrid.getInTiles(xt0, yt0, xt1, yt1, contained);
 		}
 
+		if (entityClasses.length == 0 && !includeGiven) return contained; // Nothing to filter out.
+
+		contained.removeIf(e -> {
+			boolean matches = false;
+
+			// Look through all entity classes to see if they match the current entity we are at.
+			for (int i = 0; !matches && i < entityClasses.length; i++)
+				// If the current entity and an entity class match.
+				matches = entityClasses[i].isAssignableFrom(e.getClass());
+
+			// Keep if the current entity matches an entity class and includeGiven is true.
+			// If includeGiven is false, keep if it doesn't match.
+			return matches != includeGiven;
+		});
+
 		return contained;
 	}
 
@@ -695,32 +916,37 @@ public class Level {
 	 * @return True if there is an entity on the tile.
 	 */
 	public final boolean isEntityOnTile(int x, int y) {
-		for (Entity e: getEntityArray()) {
-			int xt = e.x >> 4;
-			int yt = e.y >> 4;
-
-			if (xt == x && yt == y) {
-				return true;
-			}
+		synchronized (entityLock) {
+			return entityGrid.anyInTile(x, y);
 		}
-		return false;
 	}
 
-	public List<Entity> getEntitiesInRect(Rectangle area) {
-		List<Entity> result = new ArrayList<>();
-		for (Entity e: getEntityArray()) {
-			if (e.isTouching(area))
-				result.add(e);
+	/**
+	 * Calls the action for each entity touching the area, without allocating anything.
+	 * The entities are gathered before the action is called, so it may move, add or remove entities, and run other queries.
+	 */
+	public void forEachEntityInRect(IntRect area, Consumer<Entity> action) {
+		EntityGrid.Scratch buffer = scratch.get();
+		int start = buffer.top;
+		synchronized (entityLock) {
+			entityGrid.gatherInRect(area, buffer);
+		}
+
+		int end = buffer.top;
+		try {
+			for (int i = start; i < end; i++)
+				action.accept(buffer.entities[i]); // The array may be replaced by the queries of the action.
+		} finally {
+			buffer.popTo(start);
 		}
-		return result;
 	}
 
-	public List<Entity> getEntitiesInRect(Predicate<Entity> filter, Rectangle area) {
-		List<Entity> result = new LinkedList<>();
-		for (Entity entity : entities) {
-			if (filter.test(entity) && entity.isTouching(area)) {
-				result.add(entity);
-			}
+	public List<Entity> getEntitiesInRect(Rectangle area) { return getEntitiesInRect(null, area); }
+
+	public List<Entity> getEntitiesInRect(@Nullable Predicate<Entity> filter, Rectangle area) {
+		List<Entity> result = new ArrayList<>();
+		synchronized (entityLock) {
+			entityGrid.getInRect(area, filter, result);
 		}
 		return result;
 	}
@@ -824,12 +1050,78 @@ public class Level {
 		return matches;
 	}
 
-	public boolean isLight(int x, int y) {
-		for (Tile t: getAreaTiles(x, y, 3))
-			if (t instanceof TorchTile)
-				return true;
+	private TickScheduler getTickScheduler() {
+		if (tickScheduler == null || !tickScheduler.isFor(tiles)) {
+			tickScheduler = new TickScheduler(this);
+			fluidCells = new FluidCells(this);
+			for (int y = 0; y < h; y++) {
+				for (int x = 0; x < w; x++)
+					getTile(x, y).onChange(this, x, y); // Picks up whatever was already growing, healing or flowing.
+			}
+		}
 
-		return false;
+		return tickScheduler;
+	}
+
+	/**
+	 * Returns the light map of the level, which is (re)built if the tiles of the level have been replaced since it was last built.
+	 */
+	private LightMap getLightMap() {
+		if (lightMap == null || !lightMap.isFor(tiles))
+			lightMap = new LightMap(this);
+		return lightMap;
+	}
+
+	/**
+	 * Returns the tile the mob should move to next to get to the player, going around what it can't pass, as x + y * w.
+	 * This is the tile the mob is on if the player is on it too, and -1 if the player can't be reached within {@link FlowField#RADIUS} tiles.
+	 * The way is shared with the other mobs of the same class chasing the player.
+	 */
+	public int getPursuitStep(Mob mob, Player player) {
+		FlowField field = null;
+		for (int i = 0; i < flowFields.size(); i++) {
+			FlowField f = flowFields.get(i);
+			if (f.player == player && f.kind == mob.getClass()) {
+				field = f;
+				break;
+			}
+		}
+
+		if (field == null) {
+			field = new FlowField(player, mob.getClass());
+			flowFields.add(field);
+		}
+
+		field.lastUsed = entityTicks;
+		return field.next(this, mob, mob.x >> 4, mob.y >> 4);
+	}
+
+	/** Returns the tiles around the given one that the connective animation connects to; see {@link SpriteAnimation#getConnections}. */
+	public int getConnections(SpriteAnimation animation, int x, int y) {
+		ConnectionMasks masks = connectionMasks;
+		if (masks == null || !masks.isFor(tiles))
+			connectionMasks = masks = new ConnectionMasks(this);
+		return masks.get(animation, x, y);
+	}
+
+	/** Returns the index of the tiles mobs may spawn on, which is (re)built like the light map. */
+	private SpawnIndex getSpawnIndex() {
+		if (spawnIndex == null || !spawnIndex.isFor(tiles))
+			spawnIndex = new SpawnIndex(this);
+		return spawnIndex;
+	}
+
+	/** Returns the number of tiles enemy mobs may spawn on, if they are known yet. */
+	public int getSpawnTileCount() { return spawnIndex == null ? 0 : spawnIndex.size(SpawnIndex.ENEMY); }
+
+	/**
+	 * Checks if the tile is lit by a light source, like a torch, lava or a lantern.
+	 * @param x The x position of the tile.
+	 * @param y The y position of the tile.
+	 * @return true if the tile is within the light radius of any light source.
+	 */
+	public boolean isLight(int x, int y) {
+		return getLightMap().getLight(x, y) > 0;
 	}
 
 	private void generateSpawnerStructures() {
@@ -851,19 +1143,19 @@ public class Level {
 				Spawner sp = new Spawner(m);
 				int x3 = random.nextInt(16 * w) / 16;
 				int y3 = random.nextInt(16 * h) / 16;
-				if (getTile(x3, y3) == Tiles.get("dirt")) {
+				if (getTile(x3, y3) == Tiles.DIRT) {
 					boolean xaxis2 = random.nextBoolean();
 
 					if (xaxis2) {
 						for (int s2 = x3; s2 < w - s2; s2++) {
-							if (getTile(s2, y3) == Tiles.get("rock")) {
+							if (getTile(s2, y3) == Tiles.ROCK) {
 								sp.x = s2 * 16 - 24;
 								sp.y = y3 * 16 - 24;
 							}
 						}
 					} else {
 						for (int s2 = y3; s2 < h - s2; s2++) {
-							if (getTile(x3, s2) == Tiles.get("rock")) {
+							if (getTile(x3, s2) == Tiles.ROCK) {
 								sp.x = x3 * 16 - 24;
 								sp.y = s2 * 16 - 24;
 							}
@@ -875,22 +1167,22 @@ public class Level {
 						sp.y = y3 * 16 - 8;
 					}
 
-					if (getTile(sp.x / 16, sp.y / 16) == Tiles.get("rock")) {
-						setTile(sp.x / 16, sp.y / 16, Tiles.get("dirt"));
+					if (getTile(sp.x / 16, sp.y / 16) == Tiles.ROCK) {
+						setTile(sp.x / 16, sp.y / 16, Tiles.DIRT);
 					}
 
 					Structure.mobDungeonCenter.draw(this, sp.x / 16, sp.y / 16);
 
-					if (getTile(sp.x / 16, sp.y / 16 - 4) == Tiles.get("dirt")) {
+					if (getTile(sp.x / 16, sp.y / 16 - 4) == Tiles.DIRT) {
 						Structure.mobDungeonNorth.draw(this, sp.x / 16, sp.y / 16 - 5);
 					}
-					if (getTile(sp.x / 16, sp.y / 16 + 4) == Tiles.get("dirt")) {
+					if (getTile(sp.x / 16, sp.y / 16 + 4) == Tiles.DIRT) {
 						Structure.mobDungeonSouth.draw(this, sp.x / 16, sp.y / 16 + 5);
 					}
-					if (getTile(sp.x / 16 + 4, sp.y / 16) == Tiles.get("dirt")) {
+					if (getTile(sp.x / 16 + 4, sp.y / 16) == Tiles.DIRT) {
 						Structure.mobDungeonEast.draw(this, sp.x / 16 + 5, sp.y / 16);
 					}
-					if (getTile(sp.x / 16 - 4, sp.y / 16) == Tiles.get("dirt")) {
+					if (getTile(sp.x / 16 - 4, sp.y / 16) == Tiles.DIRT) {
 						Structure.mobDungeonWest.draw(this, sp.x / 16 - 5, sp.y / 16);
 					}
 
@@ -923,19 +1215,19 @@ public class Level {
 				Spawner sp = new Spawner(m);
 				int x3 = random.nextInt(16 * w) / 16;
 				int y3 = random.nextInt(16 * h) / 16;
-				if (getTile(x3, y3) == Tiles.get("Obsidian")) {
+				if (getTile(x3, y3) == Tiles.OBSIDIAN) {
 					boolean xaxis2 = random.nextBoolean();
 
 					if (xaxis2) {
 						for (int s2 = x3; s2 < w - s2; s2++) {
-							if (getTile(s2, y3) == Tiles.get("Obsidian Wall")) {
+							if (getTile(s2, y3) == Tiles.OBSIDIAN_WALL) {
 								sp.x = s2 * 16 - 24;
 								sp.y = y3 * 16 - 24;
 							}
 						}
 					} else {
 						for (int s2 = y3; s2 < h - s2; s2++) {
-							if (getTile(x3, s2) == Tiles.get("Obsidian Wall")) {
+							if (getTile(x3, s2) == Tiles.OBSIDIAN_WALL) {
 								sp.x = x3 * 16 - 24;
 								sp.y = s2 * 16 - 24;
 							}
@@ -947,8 +1239,8 @@ public class Level {
 						sp.y = y3 * 16 - 8;
 					}
 
-					if (getTile(sp.x / 16, sp.y / 16) == Tiles.get("Obsidian Wall")) {
-						setTile(sp.x / 16, sp.y / 16, Tiles.get("dirt"));
+					if (getTile(sp.x / 16, sp.y / 16) == Tiles.OBSIDIAN_WALL) {
+						setTile(sp.x / 16, sp.y / 16, Tiles.DIRT);
 					}
 
 					Structure.dungeonSpawner.draw(this, sp.x / 16, sp.y / 16);
@@ -980,7 +1272,7 @@ public class Level {
 				int y = random.nextInt(h);
 
 				// Makes sure the village isn't to close to the previous village
-				if (getTile(x, y) == Tiles.get("grass") && (Math.abs(x - lastVillageX) > 16 && Math.abs(y - lastVillageY) > 16)) {
+				if (getTile(x, y) == Tiles.GRASS && (Math.abs(x - lastVillageX) > 16 && Math.abs(y - lastVillageY) > 16)) {
 					lastVillageX = x;
 					lastVillageY = y;
 
@@ -1050,6 +1342,7 @@ public class Level {
 	public void regenerateBossRoom() {
 		if (depth == -4) {
 			Structure.dungeonBossRoom.draw(tiles, w/2, h/2, w); // Generating the boss room at the center.
+			lightMap = null; // The tiles were changed directly.
 			for (int x = w/2-4; x < w/2+5; x++) { // Resetting tile data.
 				for (int y = h/2-4; y < h/2+5; y++) {
 					setData(x, y, 0);
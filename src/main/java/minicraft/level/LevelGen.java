@@ -16,138 +16,170 @@ import java.awt.image.BufferedImage;
 import java.util.Random;
 
 public class LevelGen {
-	private static long worldSeed = 0;
-	private static final Random random = new Random(worldSeed);
-	public double[] values; // An array of doubles, used to help making noise for the map
-	private final int w, h; // Width and height of the map
 	private static final int stairRadius = 15;
 
-	/** This creates noise to create random values for level generation */
-	public LevelGen(int w, int h, int featureSize) {
+	private final int w, h; // Width and height of the map
+	private final long seed;
+	private final Random random; // Used for everything but the noise maps.
+	private int noiseCount = 0; // The number of noise maps made so far; each one gets its own random stream.
+
+	/**
+	 * A generator for a single level. Everything it does depends only on the seed, and not on any shared state,
+	 * so several levels can be generated at the same time, with the same results as one after another.
+	 */
+	private LevelGen(int w, int h, long seed) {
 		this.w = w;
 		this.h = h;
+		this.seed = seed;
+		random = new Random(seed);
+	}
 
-		values = new double[w * h];
+	/** Makes a noise map with its own random stream, derived from the seed of the level and the number of noise maps made before it. */
+	private Noise noise(int featureSize) {
+		return new Noise(w, h, featureSize, new Random(mix(seed + ++noiseCount * 0x9E3779B97F4A7C15L)));
+	}
 
-		/// Feature size likely determines how big the biomes are, in some way. It tends to be 16 or 32, in the code below.
-		for (int y = 0; y < w; y += featureSize) {
-			for (int x = 0; x < w; x += featureSize) {
-				setSample(x, y, random.nextFloat() * 2 - 1); // This method sets the random value from -1 to 1 at the given coordinate.
-			}
-		}
+	/** Scrambles the bits of the value, so that close seeds give unrelated random streams. */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
 
-		int stepSize = featureSize;
-		double scale = 2 / w;
-		double scaleMod = 1;
-		do {
-			int halfStep = stepSize / 2;
-			for (int y = 0; y < h; y += stepSize) {
-				for (int x = 0; x < w; x += stepSize) { // This loops through the values again, by a given increment...
-					double a = sample(x, y); // Fetches the value at the coordinate set previously (it fetches the exact same ones that were just set above)
-					double b = sample(x + stepSize, y); // Fetches the value at the next coordinate over. This could possibly loop over at the end, and fetch the first value in the row instead.
-					double c = sample(x, y + stepSize); // Fetches the next value down, possibly looping back to the top of the column.
-					double d = sample(x + stepSize, y + stepSize); // Fetches the value one down, one right.
-
-					/**
-					 * This could probably use some explaining... Note: the number values are probably only good the first time around...
-					 *
-					 * This starts with taking the average of the four numbers from before (they form a little square in adjacent tiles), each of which holds a value from -1 to 1.
-					 * Then, it basically adds a 5th number, generated the same way as before. However, this 5th number is multiplied by a few things first...
-					 * ...by stepSize, aka featureSize, and scale, which is 2/size the first time. featureSize is 16 or 32, which is a multiple of the common level size, 128.
-					 * Precisely, it is 128 / 8, or 128 / 4, respectively with 16 and 32. So, the equation becomes size / const * 2 / size, or, simplified, 2 / const.
-					 * For a feature size of 32, stepSize * scale = 2 / 4 = 1/2. featureSize of 16, it's 2 / 8 = 1/4. Later on, this gets closer to 4 / 4 = 1, so... the 5th value may not change much at all in later iterations for a feature size of 32, which means it has an effect of 1, which is actually quite significant to the value that is set.
-					 * So, it tends to decrease the 5th -1 or 1 number, sometimes making it of equal value to the other 4 numbers, sort of. It will usually change the end result by 0.5 to 0.25, perhaps; at max.
-					 */
-					double e = (a + b + c + d) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale;
-					setSample(x + halfStep, y + halfStep, e); // This sets the value that is right in the middle of the other 4 to an average of the four, plus a 5th number, which makes it slightly off, differing by about 0.25 or so on average, the first time around.
+	/** A map of smooth random values, used to help making the map. */
+	static class Noise {
+		final double[] values; // An array of doubles, used to help making noise for the map
+		private final int w, h;
+
+		/** This creates noise to create random values for level generation */
+		Noise(int w, int h, int featureSize, Random random) {
+			this.w = w;
+			this.h = h;
+
+			values = new double[w * h];
+
+			/// Feature size likely determines how big the biomes are, in some way. It tends to be 16 or 32, in the code below.
+			for (int y = 0; y < w; y += featureSize) {
+				for (int x = 0; x < w; x += featureSize) {
+					setSample(x, y, random.nextFloat() * 2 - 1); // This method sets the random value from -1 to 1 at the given coordinate.
 				}
 			}
 
-			// This loop does the same as before, but it takes into account some of the half steps we set in the last loop.
-			for (int y = 0; y < h; y += stepSize) {
-				for (int x = 0; x < w; x += stepSize) {
-					double a = sample(x, y); // middle (current) tile
-					double b = sample(x + stepSize, y); // right tile
-					double c = sample(x, y + stepSize); // bottom tile
-					double d = sample(x + halfStep, y + halfStep); // mid-right, mid-bottom tile
-					double e = sample(x + halfStep, y - halfStep); // mid-right, mid-top tile
-					double f = sample(x - halfStep, y + halfStep); // mid-left, mid-bottom tile
-
-					// The 0.5 at the end is because we are going by half-steps..?
-					// The H is for the right and surrounding mids, and g is the bottom and surrounding mids.
-					double H = (a + b + d + e) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale * 0.5; // Adds middle, right, mr-mb, mr-mt, and random.
-					double g = (a + c + d + f) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale * 0.5; // Adds middle, bottom, mr-mb, ml-mb, and random.
-					setSample(x + halfStep, y, H); // Sets the H to the mid-right
-					setSample(x, y + halfStep, g); // Sets the g to the mid-bottom
+			int stepSize = featureSize;
+			double scale = 2 / w;
+			double scaleMod = 1;
+			do {
+				int halfStep = stepSize / 2;
+				for (int y = 0; y < h; y += stepSize) {
+					for (int x = 0; x < w; x += stepSize) { // This loops through the values again, by a given increment...
+						double a = sample(x, y); // Fetches the value at the coordinate set previously (it fetches the exact same ones that were just set above)
+						double b = sample(x + stepSize, y); // Fetches the value at the next coordinate over. This could possibly loop over at the end, and fetch the first value in the row instead.
+						double c = sample(x, y + stepSize); // Fetches the next value down, possibly looping back to the top of the column.
+						double d = sample(x + stepSize, y + stepSize); // Fetches the value one down, one right.
+
+						/**
+						 * This could probably use some explaining... Note: the number values are probably only good the first time around...
+						 *
+						 * This starts with taking the average of the four numbers from before (they form a little square in adjacent tiles), each of which holds a value from -1 to 1.
+						 * Then, it basically adds a 5th number, generated the same way as before. However, this 5th number is multiplied by a few things first...
+						 * ...by stepSize, aka featureSize, and scale, which is 2/size the first time. featureSize is 16 or 32, which is a multiple of the common level size, 128.
+						 * Precisely, it is 128 / 8, or 128 / 4, respectively with 16 and 32. So, the equation becomes size / const * 2 / size, or, simplified, 2 / const.
+						 * For a feature size of 32, stepSize * scale = 2 / 4 = 1/2. featureSize of 16, it's 2 / 8 = 1/4. Later on, this gets closer to 4 / 4 = 1, so... the 5th value may not change much at all in later iterations for a feature size of 32, which means it has an effect of 1, which is actually quite significant to the value that is set.
+						 * So, it tends to decrease the 5th -1 or 1 number, sometimes making it of equal value to the other 4 numbers, sort of. It will usually change the end result by 0.5 to 0.25, perhaps; at max.
+						 */
+						double e = (a + b + c + d) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale;
+						setSample(x + halfStep, y + halfStep, e); // This sets the value that is right in the middle of the other 4 to an average of the four, plus a 5th number, which makes it slightly off, differing by about 0.25 or so on average, the first time around.
+					}
 				}
-			}
 
+				// This loop does the same as before, but it takes into account some of the half steps we set in the last loop.
+				for (int y = 0; y < h; y += stepSize) {
+					for (int x = 0; x < w; x += stepSize) {
+						double a = sample(x, y); // middle (current) tile
+						double b = sample(x + stepSize, y); // right tile
+						double c = sample(x, y + stepSize); // bottom tile
+						double d = sample(x + halfStep, y + halfStep); // mid-right, mid-bottom tile
+						double e = sample(x + halfStep, y - halfStep); // mid-right, mid-top tile
+						double f = sample(x - halfStep, y + halfStep); // mid-left, mid-bottom tile
+
+						// The 0.5 at the end is because we are going by half-steps..?
+						// The H is for the right and surrounding mids, and g is the bottom and surrounding mids.
+						double H = (a + b + d + e) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale * 0.5; // Adds middle, right, mr-mb, mr-mt, and random.
+						double g = (a + c + d + f) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale * 0.5; // Adds middle, bottom, mr-mb, ml-mb, and random.
+						setSample(x + halfStep, y, H); // Sets the H to the mid-right
+						setSample(x, y + halfStep, g); // Sets the g to the mid-bottom
+					}
+				}
+
+				/**
+				 * THEN... this stuff is set to repeat the system all over again!
+				 * The featureSize is halved, allowing access to further unset mids, and the scale changes...
+				 * The scale increases the first time, x1.8, but the second time it's x1.1, and after that probably a little less than 1. So, it generally increases a bit, maybe to 4 / w at tops. This results in the 5th random value being more significant than the first 4 ones in later iterations.
+				 */
+				stepSize /= 2;
+				scale *= (scaleMod + 0.8);
+				scaleMod *= 0.3;
+			} while (stepSize > 1); // This stops when the stepsize is < 1, aka 0 b/c it's an int. At this point there are no more mid values.
+		}
+
+		private double sample(int x, int y) {
+			return values[(x & (w - 1)) + (y & (h - 1)) * w];
+		} // This merely returns the value, like Level.getTile(x, y).
+
+		private void setSample(int x, int y, double value) {
 			/**
-			 * THEN... this stuff is set to repeat the system all over again!
-			 * The featureSize is halved, allowing access to further unset mids, and the scale changes...
-			 * The scale increases the first time, x1.8, but the second time it's x1.1, and after that probably a little less than 1. So, it generally increases a bit, maybe to 4 / w at tops. This results in the 5th random value being more significant than the first 4 ones in later iterations.
+			 * This method is short, but difficult to understand. This is what I think it does:
+			 *
+			 * The values array is like a 2D array, but formatted into a 1D array; so the basic "x + y * w" is used to access a given value.
+			 *
+			 * The value parameter is a random number, above set to be a random decimal from -1 to 1.
+			 *
+			 * From above, we can see that the x and y values passed in range from 0 to the width/height, and increment by a certain constant known as the "featureSize".
+			 * This implies that the locations chosen from this array, to put the random value in, somehow determine the size of biomes, perhaps.
+			 * The x/y value is taken and AND'ed with the size-1, which could be 127. This just caps the value at 127; however, it shouldn't be higher in the first place, so it is merely a safety measure.
+			 *
+			 * In other words, this is just "values[x + y * w] = value;"
 			 */
-			stepSize /= 2;
-			scale *= (scaleMod + 0.8);
-			scaleMod *= 0.3;
-		} while (stepSize > 1); // This stops when the stepsize is < 1, aka 0 b/c it's an int. At this point there are no more mid values.
-	}
-
-	private double sample(int x, int y) {
-		return values[(x & (w - 1)) + (y & (h - 1)) * w];
-	} // This merely returns the value, like Level.getTile(x, y).
-
-	private void setSample(int x, int y, double value) {
-		/**
-		 * This method is short, but difficult to understand. This is what I think it does:
-		 *
-		 * The values array is like a 2D array, but formatted into a 1D array; so the basic "x + y * w" is used to access a given value.
-		 *
-		 * The value parameter is a random number, above set to be a random decimal from -1 to 1.
-		 *
-		 * From above, we can see that the x and y values passed in range from 0 to the width/height, and increment by a certain constant known as the "featureSize".
-		 * This implies that the locations chosen from this array, to put the random value in, somehow determine the size of biomes, perhaps.
-		 * The x/y value is taken and AND'ed with the size-1, which could be 127. This just caps the value at 127; however, it shouldn't be higher in the first place, so it is merely a safety measure.
-		 *
-		 * In other words, this is just "values[x + y * w] = value;"
-		 */
-		values[(x & (w - 1)) + (y & (h - 1)) * w] = value;
+			values[(x & (w - 1)) + (y & (h - 1)) * w] = value;
+		}
 	}
 
+	/**
+	 * Generates the tiles and data of a level. The result only depends on the arguments, and this may be called from several threads at once.
+	 * @return The tiles and the data of the level, or null if the level is not valid.
+	 */
 	@Nullable
-	static short[][] createAndValidateMap(int w, int h, int level, long seed) {
-		worldSeed = seed;
-
+	public static short[][] createAndValidateMap(int w, int h, int level, long seed) {
+		LevelGen gen = new LevelGen(w, h, seed);
 		if (level == 1)
-			return createAndValidateSkyMap(w, h);
+			return gen.createAndValidateSkyMap();
 		if (level == 0)
-			return createAndValidateTopMap(w, h);
+			return gen.createAndValidateTopMap();
 		if (level == -4)
-			return createAndValidateDungeon(w, h);
+			return gen.createAndValidateDungeon();
 		if (level > -4 && level < 0)
-			return createAndValidateUndergroundMap(w, h, -level);
+			return gen.createAndValidateUndergroundMap(-level);
 
 		Logger.tag("LevelGen").error("Level index is not valid. Could not generate a level.");
 
 		return null;
 	}
 
-	private static short[][] createAndValidateTopMap(int w, int h) {
-		random.setSeed(worldSeed);
+	private short[][] createAndValidateTopMap() {
 		do {
-			short[][] result = createTopMap(w, h);
+			short[][] result = createTopMap();
 
 			int[] count = new int[256];
 
 			for (int i = 0; i < w * h; i++) {
 				count[result[0][i] & 0xffff]++;
 			}
-			if (count[Tiles.get("rock").id & 0xffff] < 100) continue;
-			if (count[Tiles.get("sand").id & 0xffff] < 100) continue;
-			if (count[Tiles.get("grass").id & 0xffff] < 100) continue;
-			if (count[Tiles.get("tree").id & 0xffff] < 100) continue;
+			if (count[Tiles.ROCK.id & 0xffff] < 100) continue;
+			if (count[Tiles.SAND.id & 0xffff] < 100) continue;
+			if (count[Tiles.GRASS.id & 0xffff] < 100) continue;
+			if (count[Tiles.TREE.id & 0xffff] < 100) continue;
 
-			if (count[Tiles.get("Stairs Down").id & 0xffff] < w / 21)
+			if (count[Tiles.STAIRS_DOWN.id & 0xffff] < w / 21)
 				continue; // Size 128 = 6 stairs min
 
 			return result;
@@ -155,21 +187,20 @@ public class LevelGen {
 		} while (true);
 	}
 
-	private static @Nullable short[][] createAndValidateUndergroundMap(int w, int h, int depth) {
-		random.setSeed(worldSeed);
+	private @Nullable short[][] createAndValidateUndergroundMap(int depth) {
 		do {
-			short[][] result = createUndergroundMap(w, h, depth);
+			short[][] result = createUndergroundMap(depth);
 
 			int[] count = new int[256];
 
 			for (int i = 0; i < w * h; i++) {
 				count[result[0][i] & 0xffff]++;
 			}
-			if (count[Tiles.get("rock").id & 0xffff] < 100) continue;
-			if (count[Tiles.get("dirt").id & 0xffff] < 100) continue;
-			if (count[(Tiles.get("iron Ore").id & 0xffff) + depth - 1] < 20) continue;
+			if (count[Tiles.ROCK.id & 0xffff] < 100) continue;
+			if (count[Tiles.DIRT.id & 0xffff] < 100) continue;
+			if (count[(Tiles.IRON_ORE.id & 0xffff) + depth - 1] < 20) continue;
 
-			if (depth < 3 && count[Tiles.get("Stairs Down").id & 0xffff] < w / 32)
+			if (depth < 3 && count[Tiles.STAIRS_DOWN.id & 0xffff] < w / 32)
 				continue; // Size 128 = 4 stairs min
 
 			return result;
@@ -177,38 +208,34 @@ public class LevelGen {
 		} while (true);
 	}
 
-	private static short[][] createAndValidateDungeon(int w, int h) {
-		random.setSeed(worldSeed);
-
+	private short[][] createAndValidateDungeon() {
 		do {
-			short[][] result = createDungeon(w, h);
+			short[][] result = createDungeon();
 
 			int[] count = new int[256];
 
 			for (int i = 0; i < w * h; i++) {
 				count[result[0][i] & 0xffff]++;
 			}
-			if (count[Tiles.get("Obsidian").id & 0xffff] + count[Tiles.get("dirt").id & 0xffff] < 100) continue;
-			if (count[Tiles.get("Obsidian Wall").id & 0xffff] < 100) continue;
+			if (count[Tiles.OBSIDIAN.id & 0xffff] + count[Tiles.DIRT.id & 0xffff] < 100) continue;
+			if (count[Tiles.OBSIDIAN_WALL.id & 0xffff] < 100) continue;
 
 			return result;
 
 		} while (true);
 	}
 
-	private static @Nullable short[][] createAndValidateSkyMap(int w, int h) {
-		random.setSeed(worldSeed);
-
+	private @Nullable short[][] createAndValidateSkyMap() {
 		do {
-			short[][] result = createSkyMap(w, h);
+			short[][] result = createSkyMap();
 
 			int[] count = new int[256];
 
 			for (int i = 0; i < w * h; i++) {
 				count[result[0][i] & 0xffff]++;
 			}
-			if (count[Tiles.get("cloud").id & 0xffff] < 2000) continue;
-			if (count[Tiles.get("Stairs Down").id & 0xffff] < w / 64)
+			if (count[Tiles.CLOUD.id & 0xffff] < 2000) continue;
+			if (count[Tiles.STAIRS_DOWN.id & 0xffff] < w / 64)
 				continue; // size 128 = 2 stairs min
 
 			return result;
@@ -216,15 +243,15 @@ public class LevelGen {
 		} while (true);
 	}
 
-	private static short[][] createTopMap(int w, int h) { // Create surface map
+	private short[][] createTopMap() { // Create surface map
 		// creates a bunch of value maps, some with small size...
-		LevelGen mnoise1 = new LevelGen(w, h, 16);
-		LevelGen mnoise2 = new LevelGen(w, h, 16);
-		LevelGen mnoise3 = new LevelGen(w, h, 16);
+		Noise mnoise1 = noise(16);
+		Noise mnoise2 = noise(16);
+		Noise mnoise3 = noise(16);
 
 		// ...and some with larger size.
-		LevelGen noise1 = new LevelGen(w, h, 32);
-		LevelGen noise2 = new LevelGen(w, h, 32);
+		Noise noise1 = noise(32);
+		Noise noise2 = noise(32);
 
 		short[] map = new short[w * h];
 		short[] data = new short[w * h];
@@ -252,13 +279,13 @@ public class LevelGen {
 
 						if (val < -0.5) {
 							if (Settings.get("Theme").equals("minicraft.settings.theme.hell"))
-								map[i] = Tiles.get("lava").id;
+								map[i] = Tiles.LAVA.id;
 							else
-								map[i] = Tiles.get("water").id;
+								map[i] = Tiles.WATER.id;
 						} else if (val > 0.5 && mval < -1.5) {
-							map[i] = Tiles.get("rock").id;
+							map[i] = Tiles.ROCK.id;
 						} else {
-							map[i] = Tiles.get("grass").id;
+							map[i] = Tiles.GRASS.id;
 						}
 
 						break;
@@ -266,44 +293,44 @@ public class LevelGen {
 
 						if (val < -1.5) {
 							if (Settings.get("Theme").equals("minicraft.settings.theme.hell")) {
-								map[i] = Tiles.get("lava").id;
+								map[i] = Tiles.LAVA.id;
 							} else {
-								map[i] = Tiles.get("water").id;
+								map[i] = Tiles.WATER.id;
 							}
 						} else if (val > 0.5 && mval < -1.5) {
-							map[i] = Tiles.get("rock").id;
+							map[i] = Tiles.ROCK.id;
 						} else {
-							map[i] = Tiles.get("grass").id;
+							map[i] = Tiles.GRASS.id;
 						}
 
 						break;
 					case "minicraft.settings.type.mountain":
 
 						if (val < -0.4) {
-							map[i] = Tiles.get("grass").id;
+							map[i] = Tiles.GRASS.id;
 						} else if (val > 0.5 && mval < -1.5) {
 							if (Settings.get("Theme").equals("minicraft.settings.theme.hell")) {
-								map[i] = Tiles.get("lava").id;
+								map[i] = Tiles.LAVA.id;
 							} else {
-								map[i] = Tiles.get("water").id;
+								map[i] = Tiles.WATER.id;
 							}
 						} else {
-							map[i] = Tiles.get("rock").id;
+							map[i] = Tiles.ROCK.id;
 						}
 						break;
 
 					case "minicraft.settings.type.irregular":
 						if (val < -0.5 && mval < -0.5) {
 							if (Settings.get("Theme").equals("minicraft.settings.theme.hell")) {
-								map[i] = Tiles.get("lava").id;
+								map[i] = Tiles.LAVA.id;
 							}
 							if (!Settings.get("Theme").equals("minicraft.settings.theme.hell")) {
-								map[i] = Tiles.get("water").id;
+								map[i] = Tiles.WATER.id;
 							}
 						} else if (val > 0.5 && mval < -1.5) {
-							map[i] = Tiles.get("rock").id;
+							map[i] = Tiles.ROCK.id;
 						} else {
-							map[i] = Tiles.get("grass").id;
+							map[i] = Tiles.GRASS.id;
 						}
 						break;
 				}
@@ -324,8 +351,8 @@ public class LevelGen {
 						for (int yy = yo - 1; yy <= yo + 1; yy++)
 							for (int xx = xo - 1; xx <= xo + 1; xx++)
 								if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-									if (map[xx + yy * w] == Tiles.get("grass").id) {
-										map[xx + yy * w] = Tiles.get("sand").id;
+									if (map[xx + yy * w] == Tiles.GRASS.id) {
+										map[xx + yy * w] = Tiles.SAND.id;
 									}
 								}
 					}
@@ -347,8 +374,8 @@ public class LevelGen {
 						for (int yy = yo - 1; yy <= yo + 1; yy++)
 							for (int xx = xo - 1; xx <= xo + 1; xx++)
 								if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-									if (map[xx + yy * w] == Tiles.get("grass").id) {
-										map[xx + yy * w] = Tiles.get("sand").id;
+									if (map[xx + yy * w] == Tiles.GRASS.id) {
+										map[xx + yy * w] = Tiles.SAND.id;
 									}
 								}
 					}
@@ -364,8 +391,8 @@ public class LevelGen {
 					int xx = x + random.nextInt(15) - random.nextInt(15);
 					int yy = y + random.nextInt(15) - random.nextInt(15);
 					if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-						if (map[xx + yy * w] == Tiles.get("grass").id) {
-							map[xx + yy * w] = Tiles.get("tree").id;
+						if (map[xx + yy * w] == Tiles.GRASS.id) {
+							map[xx + yy * w] = Tiles.TREE.id;
 						}
 					}
 				}
@@ -379,8 +406,8 @@ public class LevelGen {
 					int xx = x + random.nextInt(15) - random.nextInt(15);
 					int yy = y + random.nextInt(15) - random.nextInt(15);
 					if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-						if (map[xx + yy * w] == Tiles.get("grass").id) {
-							map[xx + yy * w] = Tiles.get("tree").id;
+						if (map[xx + yy * w] == Tiles.GRASS.id) {
+							map[xx + yy * w] = Tiles.TREE.id;
 						}
 					}
 				}
@@ -395,8 +422,8 @@ public class LevelGen {
 					int xx = x + random.nextInt(15) - random.nextInt(15);
 					int yy = y + random.nextInt(15) - random.nextInt(15);
 					if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-						if (map[xx + yy * w] == Tiles.get("grass").id) {
-							map[xx + yy * w] = Tiles.get("tree").id;
+						if (map[xx + yy * w] == Tiles.GRASS.id) {
+							map[xx + yy * w] = Tiles.TREE.id;
 						}
 					}
 				}
@@ -410,8 +437,8 @@ public class LevelGen {
 					int xx = x + random.nextInt(15) - random.nextInt(15);
 					int yy = y + random.nextInt(15) - random.nextInt(15);
 					if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-						if (map[xx + yy * w] == Tiles.get("grass").id) {
-							map[xx + yy * w] = Tiles.get("tree").id;
+						if (map[xx + yy * w] == Tiles.GRASS.id) {
+							map[xx + yy * w] = Tiles.TREE.id;
 						}
 					}
 				}
@@ -426,8 +453,8 @@ public class LevelGen {
 				int xx = x + random.nextInt(5) - random.nextInt(5);
 				int yy = y + random.nextInt(5) - random.nextInt(5);
 				if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-					if (map[xx + yy * w] == Tiles.get("grass").id) {
-						map[xx + yy * w] = Tiles.get("flower").id;
+					if (map[xx + yy * w] == Tiles.GRASS.id) {
+						map[xx + yy * w] = Tiles.FLOWER.id;
 						data[xx + yy * w] = (short) (col + random.nextInt(4) * 16); // Data determines which way the flower faces
 					}
 				}
@@ -438,8 +465,8 @@ public class LevelGen {
 			int xx = random.nextInt(w);
 			int yy = random.nextInt(h);
 			if (xx < w && yy < h) {
-				if (map[xx + yy * w] == Tiles.get("sand").id) {
-					map[xx + yy * w] = Tiles.get("cactus").id;
+				if (map[xx + yy * w] == Tiles.SAND.id) {
+					map[xx + yy * w] = Tiles.CACTUS.id;
 				}
 			}
 		}
@@ -456,16 +483,16 @@ public class LevelGen {
 			// The first loop, which checks to make sure that a new stairs tile will be completely surrounded by rock.
 			for (int yy = y - 1; yy <= y + 1; yy++)
 				for (int xx = x - 1; xx <= x + 1; xx++)
-					if (map[xx + yy * w] != Tiles.get("rock").id)
+					if (map[xx + yy * w] != Tiles.ROCK.id)
 						continue stairsLoop;
 
 			// This should prevent any stairsDown tile from being within 30 tiles of any other stairsDown tile.
 			for (int yy = Math.max(0, y - stairRadius); yy <= Math.min(h - 1, y + stairRadius); yy++)
 				for (int xx = Math.max(0, x - stairRadius); xx <= Math.min(w - 1, x + stairRadius); xx++)
-					if (map[xx + yy * w] == Tiles.get("Stairs Down").id)
+					if (map[xx + yy * w] == Tiles.STAIRS_DOWN.id)
 						continue stairsLoop;
 
-			map[x + y * w] = Tiles.get("Stairs Down").id;
+			map[x + y * w] = Tiles.STAIRS_DOWN.id;
 
 			count++;
 			if (count >= w / 21) break;
@@ -479,9 +506,9 @@ public class LevelGen {
 		return new short[][]{map, data};
 	}
 
-	private static short[][] createDungeon(int w, int h) {
-		LevelGen noise1 = new LevelGen(w, h, 10);
-		LevelGen noise2 = new LevelGen(w, h, 10);
+	private short[][] createDungeon() {
+		Noise noise1 = noise(10);
+		Noise noise2 = noise(10);
 
 		short[] map = new short[w * h];
 		short[] data = new short[w * h];
@@ -502,18 +529,18 @@ public class LevelGen {
 				val += 1 - dist * 2;
 
 				if (val < -0.05) {
-					map[i] = Tiles.get("Obsidian Wall").id;
-				}else if(val>=-0.05 && val<-0.03){map[i] = Tiles.get("Lava").id;
+					map[i] = Tiles.OBSIDIAN_WALL.id;
+				}else if(val>=-0.05 && val<-0.03){map[i] = Tiles.LAVA.id;
 				} else {
 					if (random.nextInt(2) == 1) {
 						if (random.nextInt(2) == 1) {
-							map[i] = Tiles.get("Obsidian").id;
+							map[i] = Tiles.OBSIDIAN.id;
 						} else {
-							map[i] = Tiles.get("Raw Obsidian").id;
+							map[i] = Tiles.RAW_OBSIDIAN.id;
 						}
 					}
 					else {
-						map[i] = Tiles.get("dirt").id;
+						map[i] = Tiles.DIRT.id;
 					}
 				}
 			}
@@ -526,7 +553,7 @@ public class LevelGen {
 
 			for (int yy = y - 1; yy <= y + 1; yy++) {
 				for (int xx = x - 1; xx <= x + 1; xx++) {
-					if (map[xx + yy * w] != Tiles.get("Obsidian").id)
+					if (map[xx + yy * w] != Tiles.OBSIDIAN.id)
 						continue decorLoop;
 				}
 			}
@@ -543,21 +570,21 @@ public class LevelGen {
 	}
 
 
-	private static short[][] createUndergroundMap(int w, int h, int depth) {
-		LevelGen mnoise1 = new LevelGen(w, h, 16);
-		LevelGen mnoise2 = new LevelGen(w, h, 16);
-		LevelGen mnoise3 = new LevelGen(w, h, 16);
+	private short[][] createUndergroundMap(int depth) {
+		Noise mnoise1 = noise(16);
+		Noise mnoise2 = noise(16);
+		Noise mnoise3 = noise(16);
 
-		LevelGen nnoise1 = new LevelGen(w, h, 16);
-		LevelGen nnoise2 = new LevelGen(w, h, 16);
-		LevelGen nnoise3 = new LevelGen(w, h, 16);
+		Noise nnoise1 = noise(16);
+		Noise nnoise2 = noise(16);
+		Noise nnoise3 = noise(16);
 
-		LevelGen wnoise1 = new LevelGen(w, h, 16);
-		LevelGen wnoise2 = new LevelGen(w, h, 16);
-		LevelGen wnoise3 = new LevelGen(w, h, 16);
+		Noise wnoise1 = noise(16);
+		Noise wnoise2 = noise(16);
+		Noise wnoise3 = noise(16);
 
-		LevelGen noise1 = new LevelGen(w, h, 32);
-		LevelGen noise2 = new LevelGen(w, h, 32);
+		Noise noise1 = noise(32);
+		Noise noise2 = noise(32);
 
 		short[] map = new short[w * h];
 		short[] data = new short[w * h];
@@ -589,15 +616,15 @@ public class LevelGen {
 				val += 1 - dist * 20;
 
 				if (val > -1 && wval < -1 + (depth) / 2.0 * 3) {
-					if (depth == 3) map[i] = Tiles.get("lava").id;
-					else if (depth == 1) map[i] = Tiles.get("dirt").id;
-					else map[i] = Tiles.get("water").id;
+					if (depth == 3) map[i] = Tiles.LAVA.id;
+					else if (depth == 1) map[i] = Tiles.DIRT.id;
+					else map[i] = Tiles.WATER.id;
 
 				} else if (val > -2 && (mval < -1.7 || nval < -1.4)) {
-					map[i] = Tiles.get("dirt").id;
+					map[i] = Tiles.DIRT.id;
 
 				} else {
-					map[i] = Tiles.get("rock").id;
+					map[i] = Tiles.ROCK.id;
 
 				}
 			}
@@ -611,8 +638,8 @@ public class LevelGen {
 					int xx = x + random.nextInt(5) - random.nextInt(5);
 					int yy = y + random.nextInt(5) - random.nextInt(5);
 					if (xx >= r && yy >= r && xx < w - r && yy < h - r) {
-						if (map[xx + yy * w] == Tiles.get("rock").id) {
-							map[xx + yy * w] = (short) ((Tiles.get("iron Ore").id & 0xffff) + depth - 1);
+						if (map[xx + yy * w] == Tiles.ROCK.id) {
+							map[xx + yy * w] = (short) ((Tiles.IRON_ORE.id & 0xffff) + depth - 1);
 						}
 					}
 				}
@@ -620,8 +647,8 @@ public class LevelGen {
 					int xx = x + random.nextInt(3) - random.nextInt(2);
 					int yy = y + random.nextInt(3) - random.nextInt(2);
 					if (xx >= r && yy >= r && xx < w - r && yy < h - r) {
-						if (map[xx + yy * w] == Tiles.get("rock").id) {
-							map[xx + yy * w] = (short) (Tiles.get("Lapis").id & 0xffff);
+						if (map[xx + yy * w] == Tiles.ROCK.id) {
+							map[xx + yy * w] = (short) (Tiles.LAPIS.id & 0xffff);
 						}
 					}
 				}
@@ -647,7 +674,7 @@ public class LevelGen {
 					Structure.dungeonLock.draw(map, xx, yy, w);
 
 					/// The "& 0xffff" is a common way to convert a short to an unsigned int, which basically prevents negative values... except... this doesn't do anything if you flip it back to a short again...
-					map[xx + yy * w] = (short) (Tiles.get("Stairs Down").id & 0xffff);
+					map[xx + yy * w] = (short) (Tiles.STAIRS_DOWN.id & 0xffff);
 					break; // The generation is successful.
 				}
 			} while (true);
@@ -662,14 +689,14 @@ public class LevelGen {
 
 				for (int yy = y - 1; yy <= y + 1; yy++)
 					for (int xx = x - 1; xx <= x + 1; xx++)
-						if (map[xx + yy * w] != Tiles.get("rock").id) continue stairsLoop;
+						if (map[xx + yy * w] != Tiles.ROCK.id) continue stairsLoop;
 
 				// This should prevent any stairsDown tile from being within 30 tiles of any other stairsDown tile.
 				for (int yy = Math.max(0, y - stairRadius); yy <= Math.min(h - 1, y + stairRadius); yy++)
 					for (int xx = Math.max(0, x - stairRadius); xx <= Math.min(w - 1, x + stairRadius); xx++)
-						if (map[xx + yy * w] == Tiles.get("Stairs Down").id) continue stairsLoop;
+						if (map[xx + yy * w] == Tiles.STAIRS_DOWN.id) continue stairsLoop;
 
-				map[x + y * w] = Tiles.get("Stairs Down").id;
+				map[x + y * w] = Tiles.STAIRS_DOWN.id;
 				count++;
 				if (count >= w / 32) break;
 			}
@@ -678,9 +705,9 @@ public class LevelGen {
 		return new short[][]{map, data};
 	}
 
-	private static short[][] createSkyMap(int w, int h) {
-		LevelGen noise1 = new LevelGen(w, h, 8);
-		LevelGen noise2 = new LevelGen(w, h, 8);
+	private short[][] createSkyMap() {
+		Noise noise1 = noise(8);
+		Noise noise2 = noise(8);
 
 		short[] map = new short[w * h];
 		short[] data = new short[w * h];
@@ -702,9 +729,9 @@ public class LevelGen {
 				val += 1 - dist * 20;
 
 				if (val < -0.25) {
-					map[i] = Tiles.get("Infinite Fall").id;
+					map[i] = Tiles.INFINITE_FALL.id;
 				} else {
-					map[i] = Tiles.get("cloud").id;
+					map[i] = Tiles.CLOUD.id;
 				}
 			}
 		}
@@ -716,11 +743,11 @@ public class LevelGen {
 
 			for (int yy = y - 1; yy <= y + 1; yy++) {
 				for (int xx = x - 1; xx <= x + 1; xx++) {
-					if (map[xx + yy * w] == Tiles.get("Infinite Fall").id) continue stairsLoop;
+					if (map[xx + yy * w] == Tiles.INFINITE_FALL.id) continue stairsLoop;
 				}
 			}
 
-			map[x + y * w] = Tiles.get("Cloud Cactus").id;
+			map[x + y * w] = Tiles.CLOUD_CACTUS.id;
 		}
 
 		int count = 0;
@@ -731,16 +758,16 @@ public class LevelGen {
 
 			for (int yy = y - 1; yy <= y + 1; yy++) {
 				for (int xx = x - 1; xx <= x + 1; xx++) {
-					if (map[xx + yy * w] != Tiles.get("cloud").id) continue stairsLoop;
+					if (map[xx + yy * w] != Tiles.CLOUD.id) continue stairsLoop;
 				}
 			}
 
 			// This should prevent any stairsDown tile from being within 30 tiles of any other stairsDown tile.
 			for (int yy = Math.max(0, y - stairRadius); yy <= Math.min(h - 1, y + stairRadius); yy++)
 				for (int xx = Math.max(0, x - stairRadius); xx <= Math.min(w - 1, x + stairRadius); xx++)
-					if (map[xx + yy * w] == Tiles.get("Stairs Down").id) continue stairsLoop;
+					if (map[xx + yy * w] == Tiles.STAIRS_DOWN.id) continue stairsLoop;
 
-			map[x + y * w] = Tiles.get("Stairs Down").id;
+			map[x + y * w] = Tiles.STAIRS_DOWN.id;
 			count++;
 			if (count >= w / 64) break;
 		}
@@ -749,7 +776,7 @@ public class LevelGen {
 	}
 
 	public static void main(String[] args) {
-		LevelGen.worldSeed = 0x100;
+		long worldSeed = 0x100;
 
 		// Fixes to get this method to work
 
@@ -788,7 +815,7 @@ public class LevelGen {
 			int lvl = maplvls[idx++ % maplvls.length];
 			if (lvl > 1 || lvl < -4) continue;
 
-			short[][] fullmap = LevelGen.createAndValidateMap(w, h, lvl, LevelGen.worldSeed);
+			short[][] fullmap = LevelGen.createAndValidateMap(w, h, lvl, worldSeed);
 
 			if (fullmap == null) continue;
 			short[] map = fullmap[0];
@@ -799,33 +826,33 @@ public class LevelGen {
 				for (int x = 0; x < w; x++) {
 					int i = x + y * w;
 
-					if (map[i] == Tiles.get("water").id) pixels[i] = 0x000080;
-					if (map[i] == Tiles.get("iron Ore").id) pixels[i] = 0x000080;
-					if (map[i] == Tiles.get("gold Ore").id) pixels[i] = 0x000080;
-					if (map[i] == Tiles.get("gem Ore").id) pixels[i] = 0x000080;
-					if (map[i] == Tiles.get("grass").id) pixels[i] = 0x208020;
-					if (map[i] == Tiles.get("rock").id) pixels[i] = 0xa0a0a0;
-					if (map[i] == Tiles.get("dirt").id) pixels[i] = 0x604040;
-					if (map[i] == Tiles.get("sand").id) pixels[i] = 0xa0a040;
-					if (map[i] == Tiles.get("Stone Bricks").id) pixels[i] = 0xa0a040;
-					if (map[i] == Tiles.get("tree").id) pixels[i] = 0x003000;
-					if (map[i] == Tiles.get("Obsidian Wall").id) pixels[i] = 0x0aa0a0;
-					if (map[i] == Tiles.get("Obsidian").id) pixels[i] = 0x000000;
-					if (map[i] == Tiles.get("lava").id) pixels[i] = 0xffff2020;
-					if (map[i] == Tiles.get("cloud").id) pixels[i] = 0xa0a0a0;
-					if (map[i] == Tiles.get("Stairs Down").id) pixels[i] = 0xffffffff;
-					if (map[i] == Tiles.get("Stairs Up").id) pixels[i] = 0xffffffff;
-					if (map[i] == Tiles.get("Cloud Cactus").id) pixels[i] = 0xffff00ff;
-					if (map[i] == Tiles.get("Ornate Obsidian").id) pixels[i] = 0x000f0a;
-					if (map[i] == Tiles.get("Raw Obsidian").id) pixels[i] = 0x0a0080;
+					if (map[i] == Tiles.WATER.id) pixels[i] = 0x000080;
+					if (map[i] == Tiles.IRON_ORE.id) pixels[i] = 0x000080;
+					if (map[i] == Tiles.GOLD_ORE.id) pixels[i] = 0x000080;
+					if (map[i] == Tiles.GEM_ORE.id) pixels[i] = 0x000080;
+					if (map[i] == Tiles.GRASS.id) pixels[i] = 0x208020;
+					if (map[i] == Tiles.ROCK.id) pixels[i] = 0xa0a0a0;
+					if (map[i] == Tiles.DIRT.id) pixels[i] = 0x604040;
+					if (map[i] == Tiles.SAND.id) pixels[i] = 0xa0a040;
+					if (map[i] == Tiles.STONE_BRICKS.id) pixels[i] = 0xa0a040;
+					if (map[i] == Tiles.TREE.id) pixels[i] = 0x003000;
+					if (map[i] == Tiles.OBSIDIAN_WALL.id) pixels[i] = 0x0aa0a0;
+					if (map[i] == Tiles.OBSIDIAN.id) pixels[i] = 0x000000;
+					if (map[i] == Tiles.LAVA.id) pixels[i] = 0xffff2020;
+					if (map[i] == Tiles.CLOUD.id) pixels[i] = 0xa0a0a0;
+					if (map[i] == Tiles.STAIRS_DOWN.id) pixels[i] = 0xffffffff;
+					if (map[i] == Tiles.STAIRS_UP.id) pixels[i] = 0xffffffff;
+					if (map[i] == Tiles.CLOUD_CACTUS.id) pixels[i] = 0xffff00ff;
+					if (map[i] == Tiles.ORNATE_OBSIDIAN.id) pixels[i] = 0x000f0a;
+					if (map[i] == Tiles.RAW_OBSIDIAN.id) pixels[i] = 0x0a0080;
 				}
 			}
 			img.setRGB(0, 0, w, h, pixels, 0, w);
 			JOptionPane.showMessageDialog(null, null, "Another Map", JOptionPane.PLAIN_MESSAGE, new ImageIcon(img.getScaledInstance(w * 4, h * 4, Image.SCALE_AREA_AVERAGING)));
-			if (LevelGen.worldSeed == 0x100)
-				LevelGen.worldSeed = 0xAAFF20;
+			if (worldSeed == 0x100)
+				worldSeed = 0xAAFF20;
 			else
-				LevelGen.worldSeed = 0x100;
+				worldSeed = 0x100;
 		}
 	}
 }
@@ -0,0 +1,121 @@
+package minicraft.level;
+
+import minicraft.core.CrashHandler;
+
+/**
+ * Runs delayed work, like TNT blasts, a number of ticks later, as part of the tick of the level it was scheduled on.
+ * Being counted in ticks, delays follow the game speed, and the work never runs on another thread than the level's.
+ * <p>
+ * The pending tasks are kept in a hierarchical timing wheel: the first wheel has a slot for each of the next
+ * {@link #SLOTS} ticks, and the second one a slot for each of the next {@link #SLOTS} spans of that many ticks;
+ * when the first wheel comes around, the next slot of the second wheel is spread over it. Tasks further away than both
+ * wheels cover wait in a list until they fit. So scheduling, cancelling and running a task each take constant time,
+ * however many are pending.
+ */
+public class LevelScheduler {
+	private static final int BITS = 8;
+	private static final int SLOTS = 1 << BITS;
+	private static final int MASK = SLOTS - 1;
+
+	private final Task[] near = new Task[SLOTS]; // Tasks due within the current span, by tick.
+	private final Task[] far = new Task[SLOTS]; // Tasks due in later spans, by span.
+	private Task overflow = null; // Tasks due past the far wheel.
+	private long now = 0; // The ticks so far.
+	private int size = 0;
+
+	/** A task that was scheduled, which can be cancelled until it runs. */
+	public static class Task {
+		private final Runnable action;
+		private final long due;
+		private Task next;
+		private boolean cancelled = false, done = false;
+
+		private Task(Runnable action, long due) {
+			this.action = action;
+			this.due = due;
+		}
+
+		/** Keeps the task from running, if it hasn't yet. */
+		public void cancel() { cancelled = true; }
+
+		public boolean isCancelled() { return cancelled; }
+		public boolean isDone() { return done; }
+	}
+
+	LevelScheduler() {}
+
+	/** Returns the number of tasks pending, including those cancelled but not yet reached. */
+	int size() { return size; }
+
+	/** Schedules the action to run in the given number of ticks; at least one. */
+	Task schedule(int delay, Runnable action) {
+		Task task = new Task(action, now + Math.max(1, delay));
+		insert(task);
+		size++;
+		return task;
+	}
+
+	private void insert(Task task) {
+		long delay = task.due - now;
+		if (delay < SLOTS - (now & MASK)) { // Within the current span.
+			int slot = (int) (task.due & MASK);
+			task.next = near[slot];
+			near[slot] = task;
+		} else if (delay < (long) SLOTS * SLOTS - (now & MASK)) { // Within the far wheel.
+			int slot = (int) ((task.due >>> BITS) & MASK);
+			task.next = far[slot];
+			far[slot] = task;
+		} else {
+			task.next = overflow;
+			overflow = task;
+		}
+	}
+
+	/** Advances a tick, and runs the tasks that are due. */
+	void tick() {
+		now++;
+		if ((now & MASK) == 0) cascade(); // A new span starts.
+
+		int slot = (int) (now & MASK);
+		Task task = near[slot];
+		near[slot] = null;
+		while (task != null) {
+			Task next = task.next;
+			task.next = null;
+			size--;
+			if (!task.cancelled) {
+				task.done = true;
+				try {
+					task.action.run();
+				} catch (RuntimeException e) {
+					CrashHandler.errorHandle(e);
+				}
+			}
+			task = next;
+		}
+	}
+
+	/** Spreads the tasks of the span that just started over the near wheel, and brings the overflow closer once a round of the far wheel is over. */
+	private void cascade() {
+		int span = (int) ((now >>> BITS) & MASK);
+		if (span == 0) {
+			Task task = overflow;
+			overflow = null;
+			while (task != null) {
+				Task next = task.next;
+				if (!task.cancelled) insert(task);
+				else size--;
+				task = next;
+			}
+		}
+
+		Task task = far[span];
+		far[span] = null;
+		while (task != null) {
+			Task next = task.next;
+			if (!task.cancelled) insert(task); // Lands in the near wheel now.
+			else size--;
+			task = next;
+		}
+	}
+}
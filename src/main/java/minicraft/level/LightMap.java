@@ -0,0 +1,143 @@
+package minicraft.level;
+
+import minicraft.entity.Entity;
+import minicraft.entity.furniture.Lantern;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the light level of every tile of a level, so that light checks do not have to search for light sources.
+ * Light sources are the tiles with a light radius (torches, lava) and lanterns placed in the level.
+ * The map is only changed when a light source is placed, removed or moved.
+ */
+class LightMap {
+	private static final int MAX_RADIUS = Byte.MAX_VALUE;
+
+	private final Level level;
+	private final int w, h;
+	private final short[] tiles; // The tile array this map was built from.
+
+	private final byte[] sources; // The light radius of the tile at each position.
+	private final byte[] light; // The light level at each position; 0 means unlit, higher is closer to a source.
+	private final Map<Entity, int[]> entitySources = new HashMap<>(); // Lanterns, mapped to the tile position and radius they were stamped with.
+	private int maxRadius = 0; // The largest light radius of any source so far.
+
+	LightMap(Level level) {
+		this.level = level;
+		w = level.w;
+		h = level.h;
+		tiles = level.tiles;
+		sources = new byte[w * h];
+		light = new byte[w * h];
+
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w; x++) {
+				int r = clampRadius(level.getTile(x, y).getLightRadius(level, x, y));
+				if (r > 0) {
+					sources[x + y * w] = (byte) r;
+					stamp(x, y, r, 0, 0, w - 1, h - 1);
+				}
+			}
+		}
+
+		for (Entity e : level.getEntityArray())
+			entityAdded(e);
+	}
+
+	/** Returns true if this map was built from the given tile array. */
+	boolean isFor(short[] tiles) { return this.tiles == tiles; }
+
+	/** Returns the light radius of the tile at the given position. */
+	int getSourceRadius(int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h) return 0;
+		return sources[x + y * w];
+	}
+
+	/** Returns the light level at the given position, 0 if it is not lit. */
+	int getLight(int x, int y) {
+		if (x < 0 || y < 0 || x >= w || y >= h) return 0;
+		return light[x + y * w];
+	}
+
+	/** Should be called after the tile at the given position has changed. */
+	void tileChanged(int x, int y) {
+		int r = clampRadius(level.getTile(x, y).getLightRadius(level, x, y));
+		int old = sources[x + y * w];
+		if (r == old) return;
+
+		sources[x + y * w] = (byte) r;
+		if (r > old) stamp(x, y, r, 0, 0, w - 1, h - 1);
+		else relight(x, y, old);
+	}
+
+	void entityAdded(Entity e) {
+		if (!(e instanceof Lantern)) return;
+		int r = clampRadius(e.getLightRadius());
+		if (r <= 0) return;
+
+		int xt = e.x >> 4, yt = e.y >> 4;
+		int[] prev = entitySources.put(e, new int[] {xt, yt, r});
+		if (prev != null) relight(prev[0], prev[1], prev[2]);
+		stamp(xt, yt, r, 0, 0, w - 1, h - 1);
+	}
+
+	void entityRemoved(Entity e) {
+		int[] prev = entitySources.remove(e);
+		if (prev != null) relight(prev[0], prev[1], prev[2]);
+	}
+
+	/** Should be called after the entity has moved. Only does anything if it is a light source that has moved to another tile. */
+	void entityMoved(Entity e) {
+		int[] prev = entitySources.get(e);
+		if (prev == null || prev[0] == e.x >> 4 && prev[1] == e.y >> 4) return;
+		entityAdded(e);
+	}
+
+	private int clampRadius(int r) {
+		r = Math.max(0, Math.min(MAX_RADIUS, r));
+		if (r > maxRadius) maxRadius = r;
+		return r;
+	}
+
+	/** Lights the tiles within the radius of the source, limited to the given tile bounds, inclusive. */
+	private void stamp(int xs, int ys, int r, int x0, int y0, int x1, int y1) {
+		x0 = Math.max(x0, Math.max(0, xs - r));
+		y0 = Math.max(y0, Math.max(0, ys - r));
+		x1 = Math.min(x1, Math.min(w - 1, xs + r));
+		y1 = Math.min(y1, Math.min(h - 1, ys + r));
+		for (int y = y0; y <= y1; y++) {
+			int yd = y - ys;
+			for (int x = x0; x <= x1; x++) {
+				int xd = x - xs;
+				int dist = xd * xd + yd * yd;
+				if (dist > r * r) continue;
+
+				int lvl = r - (int) Math.sqrt(dist) + 1; // Always at least 1 within the radius.
+				if (light[x + y * w] < lvl) light[x + y * w] = (byte) lvl;
+			}
+		}
+	}
+
+	/** Recalculates the light around a position, after a light source with the given radius has been removed from there. */
+	private void relight(int xs, int ys, int r) {
+		int x0 = Math.max(0, xs - r), y0 = Math.max(0, ys - r);
+		int x1 = Math.min(w - 1, xs + r), y1 = Math.min(h - 1, ys + r);
+		for (int y = y0; y <= y1; y++)
+			for (int x = x0; x <= x1; x++)
+				light[x + y * w] = 0;
+
+		// Any source close enough to the cleared area may have lit a part of it.
+		int sx0 = Math.max(0, x0 - maxRadius), sy0 = Math.max(0, y0 - maxRadius);
+		int sx1 = Math.min(w - 1, x1 + maxRadius), sy1 = Math.min(h - 1, y1 + maxRadius);
+		for (int y = sy0; y <= sy1; y++) {
+			for (int x = sx0; x <= sx1; x++) {
+				int sr = sources[x + y * w];
+				if (sr > 0) stamp(x, y, sr, x0, y0, x1, y1);
+			}
+		}
+
+		for (int[] source : entitySources.values())
+			stamp(source[0], source[1], source[2], x0, y0, x1, y1);
+	}
+}
@@ -0,0 +1,115 @@
+package minicraft.level;
+
+import minicraft.entity.mob.EnemyMob;
+import minicraft.entity.mob.PassiveMob;
+import minicraft.level.tile.Tile;
+
+import java.util.Random;
+
+/**
+ * The tiles of a level that mobs may spawn on, so natural spawning can pick among them instead of trying random tiles.
+ * There is a set of tiles for hostile mobs, and on the surface, one for passive mobs; whether a tile belongs in them
+ * only depends on the tile type, so the sets are updated from {@link Level#setTile}. Light changes without the tiles changing,
+ * so it is still checked for the tile that is picked, which is a single lookup in the light map.
+ * Each set is split into regions of 16x16 tiles, so picking a tile near a player only looks at the regions around them.
+ */
+class SpawnIndex {
+	static final int ENEMY = 0;
+	static final int PASSIVE = 1;
+
+	private static final int REGION_SHIFT = 4;
+	private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+	private final short[] tiles; // The tile array this was built for.
+	private final int w, h;
+	private final int rw, rh; // The width and height in regions.
+	private final Candidates[] sets = new Candidates[2];
+
+	SpawnIndex(Level level) {
+		tiles = level.tiles;
+		w = level.w;
+		h = level.h;
+		rw = (w + REGION_SIZE - 1) >> REGION_SHIFT;
+		rh = (h + REGION_SIZE - 1) >> REGION_SHIFT;
+
+		sets[ENEMY] = new Candidates();
+		if (level.depth == 0) sets[PASSIVE] = new Candidates();
+
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w; x++)
+				update(level, x, y);
+		}
+	}
+
+	/** Returns true if this was built for the given tile array. */
+	boolean isFor(short[] tiles) { return this.tiles == tiles; }
+
+	/** Returns the number of tiles in the given set. */
+	int size(int set) { return sets[set] == null ? 0 : sets[set].total; }
+
+	/** Puts the tile in or takes it out of the sets, depending on what it is now. */
+	void update(Level level, int x, int y) {
+		Tile tile = level.getTile(x, y);
+		int pos = x + y * w;
+		sets[ENEMY].set(pos, x, y, EnemyMob.maySpawnOn(level, tile));
+		if (sets[PASSIVE] != null) sets[PASSIVE].set(pos, x, y, PassiveMob.maySpawnOn(tile));
+	}
+
+	/**
+	 * Picks a random tile of the set in the regions overlapping the given tile bounds, inclusive.
+	 * Tiles just outside the bounds may be picked too. Returns the position as x + y * w, or -1 if there are none.
+	 */
+	int pick(int set, int x0, int y0, int x1, int y1, Random random) {
+		Candidates candidates = sets[set];
+		if (candidates == null) return -1;
+
+		int rx0 = Math.max(0, x0 >> REGION_SHIFT), ry0 = Math.max(0, y0 >> REGION_SHIFT);
+		int rx1 = Math.min(rw - 1, x1 >> REGION_SHIFT), ry1 = Math.min(rh - 1, y1 >> REGION_SHIFT);
+
+		int total = 0;
+		for (int ry = ry0; ry <= ry1; ry++)
+			for (int rx = rx0; rx <= rx1; rx++)
+				total += candidates.counts[rx + ry * rw];
+		if (total == 0) return -1;
+
+		int k = random.nextInt(total);
+		for (int ry = ry0; ry <= ry1; ry++) {
+			for (int rx = rx0; rx <= rx1; rx++) {
+				int region = rx + ry * rw;
+				if (k < candidates.counts[region]) return candidates.regions[region][k];
+				k -= candidates.counts[region];
+			}
+		}
+
+		return -1; // Can't happen.
+	}
+
+	/** A set of positions, kept as a dense array per region, with each position's index in it for removal. */
+	private class Candidates {
+		private final int[][] regions = new int[rw * rh][];
+		private final int[] counts = new int[rw * rh];
+		private final short[] slots = new short[w * h]; // The index of each position in its region, plus one; 0 if not in the set.
+		private int total = 0;
+
+		void set(int pos, int x, int y, boolean in) {
+			boolean present = slots[pos] != 0;
+			if (in == present) return;
+
+			int region = (x >> REGION_SHIFT) + (y >> REGION_SHIFT) * rw;
+			int[] list = regions[region];
+			if (in) {
+				if (list == null) list = regions[region] = new int[REGION_SIZE * REGION_SIZE];
+				list[counts[region]] = pos;
+				slots[pos] = (short) ++counts[region];
+				total++;
+			} else {
+				int index = slots[pos] - 1;
+				int last = list[--counts[region]];
+				list[index] = last;
+				slots[last] = (short) (index + 1);
+				slots[pos] = 0;
+				total--;
+			}
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package minicraft.level;
+
+import minicraft.gfx.Screen;
+import minicraft.gfx.SpriteAnimation;
+
+import java.util.Arrays;
+
+/**
+ * The tiles of the level being rendered, kept rendered in chunks of 16x16 tiles, so they don't have to be rendered sprite by sprite each frame.
+ * A chunk is rendered when it first comes into view, and each tile of it again only once it, or a tile next to it, is changed;
+ * the visible parts of the chunks are then copied onto the screen row by row. Tiles that are animated can't be kept,
+ * so they are left out of the chunks and rendered over them each frame as before.
+ * Only so many chunks are kept, and only for one level at a time, the one being rendered; the rest are rendered again when needed.
+ */
+class TerrainCache {
+	private static final int CHUNK_SHIFT = 4; // Each chunk is 16x16 tiles.
+	private static final int CHUNK_TILES = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_PIXEL_SHIFT = CHUNK_SHIFT + 4; // 16 pixels per tile.
+	private static final int CHUNK_PIXELS = 1 << CHUNK_PIXEL_SHIFT;
+	private static final int MAX_CHUNKS = 24; // About 6 MB of pixels; several times what fits on the screen.
+	private static final int EMPTY = -1; // The pixels no tile rendered onto, so whatever was under them shows through.
+
+	private final Level level;
+	private final short[] tiles; // The tile array this was built for.
+	private final int refreshCount; // The sprites this was built with.
+	private final int cw, ch; // The width and height of the level, in chunks.
+	private final Chunk[] chunks; // The chunk at each position, if kept.
+	private final Chunk[] kept = new Chunk[MAX_CHUNKS];
+	private int keptCount = 0;
+	private final Screen chunkScreen = new Screen(CHUNK_PIXELS, CHUNK_PIXELS);
+	private int frame = 0;
+
+	private static class Chunk {
+		private int cx, cy;
+		private final int[] pixels = new int[CHUNK_PIXELS * CHUNK_PIXELS];
+		private final boolean[] dirty = new boolean[CHUNK_TILES * CHUNK_TILES]; // The tiles to render again.
+		private int dirtyCount;
+		private final boolean[] animated = new boolean[CHUNK_TILES * CHUNK_TILES]; // The tiles left out, to render each frame.
+		private final boolean[] holes = new boolean[CHUNK_TILES * CHUNK_TILES]; // The tiles with pixels left empty.
+		private final int[] rowHoles = new int[CHUNK_TILES]; // The tiles with pixels left empty, in each row of tiles.
+		private int lastUsed;
+
+		private void reset(int cx, int cy) {
+			this.cx = cx;
+			this.cy = cy;
+			Arrays.fill(dirty, true);
+			dirtyCount = dirty.length;
+		}
+	}
+
+	TerrainCache(Level level) {
+		this.level = level;
+		tiles = level.tiles;
+		refreshCount = SpriteAnimation.getRefreshCount();
+		cw = (level.w + CHUNK_TILES - 1) >> CHUNK_SHIFT;
+		ch = (level.h + CHUNK_TILES - 1) >> CHUNK_SHIFT;
+		chunks = new Chunk[cw * ch];
+	}
+
+	/** Returns true if this was built for the level as it is now, with the current sprites. */
+	boolean isFor(Level level) {
+		return this.level == level && tiles == level.tiles && refreshCount == SpriteAnimation.getRefreshCount();
+	}
+
+	/** Marks the tile, and the tiles next to it, which may connect to it, to be rendered again. */
+	synchronized void tileChanged(int x, int y) {
+		for (int yt = y - 1; yt <= y + 1; yt++) {
+			for (int xt = x - 1; xt <= x + 1; xt++) {
+				if (xt < 0 || yt < 0 || xt >= level.w || yt >= level.h) continue;
+				Chunk chunk = chunks[(xt >> CHUNK_SHIFT) + (yt >> CHUNK_SHIFT) * cw];
+				if (chunk == null) continue;
+				int i = (xt & (CHUNK_TILES - 1)) + (yt & (CHUNK_TILES - 1)) * CHUNK_TILES;
+				if (!chunk.dirty[i]) {
+					chunk.dirty[i] = true;
+					chunk.dirtyCount++;
+				}
+			}
+		}
+	}
+
+	/** Renders the tiles in view onto the screen, which may be an off-screen buffer of any size; its offset has to be set to the scroll already. */
+	synchronized void render(Screen screen, int xScroll, int yScroll) {
+		frame++;
+		int x0 = Math.max(0, xScroll), y0 = Math.max(0, yScroll); // The pixels in view, inclusive.
+		int x1 = Math.min(level.w * 16, xScroll + screen.getWidth()) - 1, y1 = Math.min(level.h * 16, yScroll + screen.getHeight()) - 1;
+		if (x1 < x0 || y1 < y0) return;
+
+		for (int cy = y0 >> CHUNK_PIXEL_SHIFT; cy <= y1 >> CHUNK_PIXEL_SHIFT; cy++) {
+			for (int cx = x0 >> CHUNK_PIXEL_SHIFT; cx <= x1 >> CHUNK_PIXEL_SHIFT; cx++) {
+				Chunk chunk = getChunk(cx, cy);
+				if (chunk.dirtyCount > 0) update(chunk);
+				copy(chunk, screen, xScroll, yScroll, x0, y0, x1, y1);
+			}
+		}
+
+		// The animated tiles are rendered over the chunks.
+		for (int yt = y0 >> 4; yt <= y1 >> 4; yt++) {
+			for (int xt = x0 >> 4; xt <= x1 >> 4; xt++) {
+				Chunk chunk = chunks[(xt >> CHUNK_SHIFT) + (yt >> CHUNK_SHIFT) * cw];
+				if (chunk.animated[(xt & (CHUNK_TILES - 1)) + (yt & (CHUNK_TILES - 1)) * CHUNK_TILES])
+					level.getTile(xt, yt).render(screen, level, xt, yt);
+			}
+		}
+	}
+
+	/** Returns the chunk at the position, setting one up if it isn't kept, in place of the one unused the longest if there are too many. */
+	private Chunk getChunk(int cx, int cy) {
+		Chunk chunk = chunks[cx + cy * cw];
+		if (chunk == null) {
+			if (keptCount < MAX_CHUNKS) {
+				chunk = kept[keptCount++] = new Chunk();
+			} else {
+				chunk = kept[0];
+				for (int i = 1; i < keptCount; i++)
+					if (kept[i].lastUsed < chunk.lastUsed) chunk = kept[i];
+				chunks[chunk.cx + chunk.cy * cw] = null;
+			}
+
+			chunk.reset(cx, cy);
+			chunks[cx + cy * cw] = chunk;
+		}
+
+		chunk.lastUsed = frame;
+		return chunk;
+	}
+
+	/** Renders the dirty tiles of the chunk again. */
+	private void update(Chunk chunk) {
+		chunkScreen.pixels = chunk.pixels;
+		chunkScreen.setOffset(chunk.cx << CHUNK_PIXEL_SHIFT, chunk.cy << CHUNK_PIXEL_SHIFT);
+		for (int i = 0; i < chunk.dirty.length; i++) {
+			if (!chunk.dirty[i]) continue;
+			chunk.dirty[i] = false;
+
+			int lx = i & (CHUNK_TILES - 1), ly = i >> CHUNK_SHIFT;
+			int xt = (chunk.cx << CHUNK_SHIFT) + lx, yt = (chunk.cy << CHUNK_SHIFT) + ly;
+			clear(chunk, lx, ly);
+			boolean animated = false;
+			if (xt < level.w && yt < level.h) {
+				chunkScreen.checkAnimated();
+				level.getTile(xt, yt).render(chunkScreen, level, xt, yt);
+				animated = chunkScreen.checkAnimated();
+				if (animated) clear(chunk, lx, ly);
+			}
+
+			chunk.animated[i] = animated;
+			boolean holes = animated || hasHoles(chunk, lx, ly);
+			if (holes != chunk.holes[i]) {
+				chunk.holes[i] = holes;
+				chunk.rowHoles[ly] += holes ? 1 : -1;
+			}
+		}
+
+		chunk.dirtyCount = 0;
+		chunkScreen.setOffset(0, 0);
+	}
+
+	private static void clear(Chunk chunk, int lx, int ly) {
+		int start = (lx << 4) + (ly << 4) * CHUNK_PIXELS;
+		for (int y = 0; y < 16; y++)
+			Arrays.fill(chunk.pixels, start + y * CHUNK_PIXELS, start + y * CHUNK_PIXELS + 16, EMPTY);
+	}
+
+	private static boolean hasHoles(Chunk chunk, int lx, int ly) {
+		int start = (lx << 4) + (ly << 4) * CHUNK_PIXELS;
+		for (int y = 0; y < 16; y++)
+			for (int x = 0; x < 16; x++)
+				if (chunk.pixels[start + x + y * CHUNK_PIXELS] == EMPTY) return true;
+		return false;
+	}
+
+	/** Copies the part of the chunk within the given pixels onto the screen, a row at a time; pixel by pixel in the rows of tiles with holes. */
+	private static void copy(Chunk chunk, Screen screen, int xScroll, int yScroll, int x0, int y0, int x1, int y1) {
+		int left = chunk.cx << CHUNK_PIXEL_SHIFT, top = chunk.cy << CHUNK_PIXEL_SHIFT;
+		int sx0 = Math.max(x0, left), sx1 = Math.min(x1, left + CHUNK_PIXELS - 1);
+		int sy0 = Math.max(y0, top), sy1 = Math.min(y1, top + CHUNK_PIXELS - 1);
+		int length = sx1 - sx0 + 1;
+		int[] pixels = screen.pixels;
+		int width = screen.getWidth();
+		for (int y = sy0; y <= sy1; y++) {
+			int ly = y - top;
+			int from = sx0 - left + ly * CHUNK_PIXELS;
+			int to = sx0 - xScroll + (y - yScroll) * width;
+			if (chunk.rowHoles[ly >> 4] == 0) {
+				System.arraycopy(chunk.pixels, from, pixels, to, length);
+			} else {
+				for (int x = 0; x < length; x++) {
+					int col = chunk.pixels[from + x];
+					if (col != EMPTY) pixels[to + x] = col;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package minicraft.level;
+
+import java.util.Arrays;
+
+/**
+ * The scheduled tile ticks of a level. Tiles that change over time, such as crops, saplings and damaged trees and rocks,
+ * ask for their next tick with {@link minicraft.level.tile.Tile#scheduleTick}, so that a level only ticks the tiles
+ * that have something to do, instead of ticking tiles picked at random.
+ * Each position has at most one tick pending; asking for a later one keeps the earlier one.
+ */
+class TickScheduler {
+	private final short[] tiles; // The tile array this was built for.
+	private final int w;
+
+	private final int[] due; // The tick each position is due at, or 0 if it has none pending.
+	private long[] queue = new long[64]; // A binary min-heap of the pending ticks, each as (due tick << 32 | position).
+	private int size = 0;
+	private int now = 0; // The number of ticks of the level so far.
+
+	TickScheduler(Level level) {
+		tiles = level.tiles;
+		w = level.w;
+		due = new int[level.w * level.h];
+	}
+
+	/** Returns true if this was built for the given tile array. */
+	boolean isFor(short[] tiles) { return this.tiles == tiles; }
+
+	/** Returns the number of ticks pending, including those that were replaced by sooner ones. */
+	int size() { return size; }
+
+	void schedule(int x, int y, int delay) {
+		int pos = x + y * w;
+		int tick = now + Math.max(1, delay);
+		if (due[pos] != 0 && due[pos] <= tick) return;
+
+		due[pos] = tick;
+		push((long) tick << 32 | pos);
+	}
+
+	/** Advances a tick, and ticks the tiles that are due. */
+	void tick(Level level) {
+		now++;
+		while (size > 0 && (int) (queue[0] >>> 32) <= now) {
+			long entry = pop();
+			int pos = (int) entry;
+			if (due[pos] != (int) (entry >>> 32)) continue; // It was replaced by a sooner one, which already ran.
+
+			due[pos] = 0;
+			int x = pos % w, y = pos / w;
+			level.getTile(x, y).tick(level, x, y); // The tile may have changed since; it only does what applies to it.
+		}
+	}
+
+	private void push(long entry) {
+		if (size == queue.length) queue = Arrays.copyOf(queue, size * 2);
+
+		int i = size++;
+		while (i > 0) {
+			int parent = (i - 1) >> 1;
+			if (queue[parent] <= entry) break;
+			queue[i] = queue[parent];
+			i = parent;
+		}
+		queue[i] = entry;
+	}
+
+	private long pop() {
+		long first = queue[0];
+		long last = queue[--size];
+
+		int i = 0;
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= size) break;
+			if (child + 1 < size && queue[child + 1] < queue[child]) child++;
+			if (last <= queue[child]) break;
+			queue[i] = queue[child];
+			i = child;
+		}
+		queue[i] = last;
+
+		return first;
+	}
+}
@@ -36,7 +36,7 @@ public class CactusTile extends Tile {
 
 		if (damage >= cHealth) {
 			//int count = random.nextInt(2) + 2;
-			level.setTile(x, y, Tiles.get("sand"));
+			level.setTile(x, y, Tiles.SAND);
 			Sound.play("monsterhurt");
 			level.dropItem(x * 16 + 8, y * 16 + 8, 2, 4, Items.get("Cactus"));
 		} else {
@@ -47,7 +47,7 @@ public class CactusTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Sand").render(screen, level, x, y);
+		Tiles.SAND.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -65,6 +65,11 @@ public class CactusTile extends Tile {
 		}
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (level.getData(xt, yt) > 0) scheduleTick(level, xt, yt); // Heals over time.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
 		int damage = level.getData(xt, yt);
 		if (damage > 0) {
@@ -34,9 +34,9 @@ public class FloorTile extends Tile {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					int data = level.getData(xt, yt);
 					if (level.depth == 1) {
-						level.setTile(xt, yt, Tiles.get("Cloud"));
+						level.setTile(xt, yt, Tiles.CLOUD);
 					} else {
-						level.setTile(xt, yt, Tiles.get("Hole"));
+						level.setTile(xt, yt, Tiles.HOLE);
 					}
 					Item drop;
 					switch (type) {
@@ -24,7 +24,14 @@ public class FlowerTile extends Tile {
 		maySpawn = true;
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (isNextTo(level, xt, yt, Tiles.DIRT)) scheduleTick(level, xt, yt); // Spreads onto dirt.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
+		onChange(level, xt, yt); // Keeps spreading while there is dirt next to it.
+
 		// TODO revise this method.
 		if (random.nextInt(30) != 0) return false; // Skips every 31 tick.
 
@@ -34,14 +41,14 @@ public class FlowerTile extends Tile {
 		if (random.nextBoolean()) xn += random.nextInt(2) * 2 - 1;
 		else yn += random.nextInt(2) * 2 - 1;
 
-		if (level.getTile(xn, yn) == Tiles.get("Dirt")) {
-			level.setTile(xn, yn, Tiles.get("Grass"));
+		if (level.getTile(xn, yn) == Tiles.DIRT) {
+			level.setTile(xn, yn, Tiles.GRASS);
 		}
 		return false;
 	}
 
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Grass").render(screen, level, x, y);
+		Tiles.GRASS.render(screen, level, x, y);
 		int data = level.getData(x, y);
 		int shape = (data / 16) % 2;
 		(shape == 0 ? flowerSprite0 : flowerSprite1).render(screen, level, x, y);
@@ -53,7 +60,7 @@ public class FlowerTile extends Tile {
 			if (tool.type == ToolType.Shovel) {
 				if (player.payStamina(2 - tool.level) && tool.payDurability()) {
 					int data = level.getData(x, y);
-					level.setTile(x, y, Tiles.get("Grass"));
+					level.setTile(x, y, Tiles.GRASS);
 					Sound.play("monsterhurt");
 					level.dropItem(x * 16 + 8, y * 16 + 8, Items.get("Flower"));
 					level.dropItem(x * 16 + 8, y * 16 + 8, Items.get("Rose"));
@@ -70,7 +77,7 @@ public class FlowerTile extends Tile {
 	public boolean hurt(Level level, int x, int y, Mob source, int dmg, Direction attackDir) {
 		level.dropItem(x *16 + 8, y * 16 + 8, 0, 1, Items.get("Flower"));
 		level.dropItem(x *16 + 8, y * 16 + 8, 0, 1, Items.get("Rose"));
-		level.setTile(x, y, Tiles.get("Grass"));
+		level.setTile(x, y, Tiles.GRASS);
 		return true;
 	}
 }
@@ -24,7 +24,14 @@ public class GrassTile extends Tile {
 		maySpawn = true;
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (isNextTo(level, xt, yt, Tiles.DIRT)) scheduleTick(level, xt, yt); // Spreads onto dirt.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
+		onChange(level, xt, yt); // Keeps spreading while there is dirt next to it.
+
 		// TODO revise this method.
 		if (random.nextInt(40) != 0) return false;
 
@@ -34,7 +41,7 @@ public class GrassTile extends Tile {
 		if (random.nextBoolean()) xn += random.nextInt(2) * 2 - 1;
 		else yn += random.nextInt(2) * 2 - 1;
 
-		if (level.getTile(xn, yn) == Tiles.get("Dirt")) {
+		if (level.getTile(xn, yn) == Tiles.DIRT) {
 			level.setTile(xn, yn, this);
 		}
 		return false;
@@ -42,7 +49,7 @@ public class GrassTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -52,7 +59,7 @@ public class GrassTile extends Tile {
 			if (tool.type == ToolType.Shovel) {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					int data = level.getData(xt, yt);
-					level.setTile(xt, yt, Tiles.get("Dirt"));
+					level.setTile(xt, yt, Tiles.DIRT);
 					Sound.play("monsterhurt");
 					if (random.nextInt(5) == 0) { // 20% chance to drop Grass seeds
 						level.dropItem(xt * 16 + 8, yt * 16 + 8, 1, Items.get("Grass Seeds"));
@@ -66,7 +73,7 @@ public class GrassTile extends Tile {
 			if (tool.type == ToolType.Hoe) {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					int data = level.getData(xt, yt);
-					level.setTile(xt, yt, Tiles.get("Dirt"));
+					level.setTile(xt, yt, Tiles.DIRT);
 					Sound.play("monsterhurt");
 					if (random.nextInt(5) != 0) { // 80% chance to drop Wheat seeds
 						level.dropItem(xt * 16 + 8, yt * 16 + 8, Items.get("Wheat Seeds"));
@@ -79,7 +86,7 @@ public class GrassTile extends Tile {
 			}
 			if (tool.type == ToolType.Pickaxe) {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
-					level.setTile(xt, yt, Tiles.get("Path"));
+					level.setTile(xt, yt, Tiles.PATH);
 					Sound.play("monsterhurt");
 				}
 			}
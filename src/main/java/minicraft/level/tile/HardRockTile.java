@@ -70,7 +70,7 @@ public class HardRockTile extends Tile {
 
 		level.add(new TextParticle("" + dmg, x * 16 + 8, y * 16 + 8, Color.RED));
 		if (damage >= hrHealth) {
-			level.setTile(x, y, Tiles.get("dirt"));
+			level.setTile(x, y, Tiles.DIRT);
 			level.dropItem(x * 16 + 8, y * 16 + 8, 1, 3, Items.get("Stone"));
 			level.dropItem(x * 16 + 8, y * 16 + 8, 0, 1, Items.get("Coal"));
 		} else {
@@ -80,10 +80,15 @@ public class HardRockTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		super.render(screen, level, x, y);
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (level.getData(xt, yt) > 0) scheduleTick(level, xt, yt); // Heals over time.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
 		int damage = level.getData(xt, yt);
 		if (damage > 0) {
@@ -19,7 +19,7 @@ public class HoleTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
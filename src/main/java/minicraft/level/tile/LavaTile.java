@@ -1,5 +1,6 @@
 package minicraft.level.tile;
 
+import minicraft.entity.Direction;
 import minicraft.entity.Entity;
 import minicraft.gfx.Screen;
 import minicraft.gfx.SpriteAnimation;
@@ -24,20 +25,23 @@ public class LavaTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		super.render(screen, level, x, y);
 	}
 
 	@Override
-	public boolean tick(Level level, int xt, int yt) {
-		int xn = xt;
-		int yn = yt;
-
-		if (random.nextBoolean()) xn += random.nextInt(2) * 2 - 1;
-		else yn += random.nextInt(2) * 2 - 1;
+	public void onChange(Level level, int xt, int yt) {
+		if (isNextTo(level, xt, yt, Tiles.HOLE)) level.activateFluid(xt, yt);
+	}
 
-		if (level.getTile(xn, yn) == Tiles.get("hole")) {
-			level.setTile(xn, yn, this);
+	/** Flows into the holes next to it. */
+	@Override
+	public boolean tick(Level level, int xt, int yt) {
+		for (int i = 0; i < 4; i++) {
+			Direction dir = Direction.getDirection(i);
+			int xn = xt + dir.getX();
+			int yn = yt + dir.getY();
+			if (level.getTile(xn, yn) == Tiles.HOLE) level.setTile(xn, yn, this);
 		}
 		return false;
 	}
@@ -37,7 +37,7 @@ public class RockTile extends Tile {
 	}
 
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -94,12 +94,17 @@ public class RockTile extends Tile {
 			}
 
 			level.dropItem(x * 16 + 8, y * 16 + 8, stone, Items.get("Stone"));
-			level.setTile(x, y, Tiles.get("Dirt"));
+			level.setTile(x, y, Tiles.DIRT);
 		} else {
 			level.setData(x, y, damage);
 		}
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (level.getData(xt, yt) > 0) scheduleTick(level, xt, yt); // Heals over time.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
 		damage = level.getData(xt, yt);
 		if (damage > 0) {
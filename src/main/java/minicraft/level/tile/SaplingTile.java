@@ -29,12 +29,19 @@ public class SaplingTile extends Tile {
 		sprite.render(screen, level, x, y);
 	}
 
+	@Override
+	public void onChange(Level level, int x, int y) {
+		scheduleTick(level, x, y);
+	}
+
 	public boolean tick(Level level, int x, int y) {
 		int age = level.getData(x, y) + 1;
 		if (age > 110) {
 			// Don't grow if there is an entity on this tile.
 			if (!level.isEntityOnTile(x, y)) {
 				level.setTile(x, y, growsTo);
+			} else {
+				scheduleTick(level, x, y); // Tries again later.
 			}
 		} else {
 			level.setData(x, y, age);
@@ -26,9 +26,9 @@ public class StairsTile extends Tile {
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
 		if (level.depth == 1)
-			Tiles.get("cloud").render(screen, level, x, y);
+			Tiles.CLOUD.render(screen, level, x, y);
 		else
-			Tiles.get("dirt").render(screen, level, x, y);
+			Tiles.DIRT.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -43,7 +43,7 @@ public class StairsTile extends Tile {
 		// Makes it so you can remove the stairs if you are in creative and debug mode.
 		if (item instanceof PowerGloveItem && Game.isMode("minicraft.settings.mode.creative")) {
 			int data = level.getData(xt, yt);
-			level.setTile(xt, yt, Tiles.get("Grass"));
+			level.setTile(xt, yt, Tiles.GRASS);
 			Sound.play("monsterhurt");
 			AdvancementElement.AdvancementTrigger.ItemUsedOnTileTrigger.INSTANCE.trigger(
 				new AdvancementElement.AdvancementTrigger.ItemUsedOnTileTrigger.ItemUsedOnTileTriggerConditionHandler.ItemUsedOnTileTriggerConditions(
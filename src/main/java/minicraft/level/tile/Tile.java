@@ -15,6 +15,7 @@ import java.util.Random;
 
 public abstract class Tile {
 	public static int tickCount = 0; // A global tickCount used in the Lava & water tiles.
+	public static final int TICK_DELAY = 50; // The average number of ticks between the ticks of a tile that keeps scheduling them.
 	protected Random random = new Random();
 
 	/**
@@ -44,6 +45,7 @@ public abstract class Tile {
 	public boolean connectsToGrass = false;
 	public boolean connectsToSand = false;
 	public boolean connectsToFluid = false;
+	public boolean randomTicks = false; // If true, the tile is also ticked every so often at random, like every tile used to be.
 	public int light = 1;
 	protected boolean maySpawn = false;
 
@@ -103,9 +105,25 @@ public abstract class Tile {
 	/** What happens when you run into the tile (ex: run into a cactus) */
 	public void bumpedInto(Level level, int xt, int yt, Entity entity) {}
 
-	/** Update method */
+	/** Update method; called when a tick scheduled with {@link #scheduleTick} is due, or at random if {@link #randomTicks} is set. */
 	public boolean tick(Level level, int xt, int yt) { return false; }
 
+	/**
+	 * Called when this tile is set, when its data or one of the four tiles next to it changes, and for every tile when a level is loaded.
+	 * Tiles that change over time should schedule their next tick here; this should not change the level itself.
+	 */
+	public void onChange(Level level, int xt, int yt) {}
+
+	/** Returns true if any of the four tiles next to the given position is the given tile. */
+	protected static boolean isNextTo(Level level, int xt, int yt, Tile tile) {
+		return level.getTile(xt - 1, yt) == tile || level.getTile(xt + 1, yt) == tile || level.getTile(xt, yt - 1) == tile || level.getTile(xt, yt + 1) == tile;
+	}
+
+	/** Schedules a tick of this tile, after {@link #TICK_DELAY} ticks on average. */
+	protected void scheduleTick(Level level, int xt, int yt) {
+		level.scheduleTick(xt, yt, 1 + random.nextInt(TICK_DELAY * 2 - 1));
+	}
+
 	/** What happens when you are inside the tile (ex: lava) */
 	public void steppedOn(Level level, int xt, int yt, Entity entity) {}
 
@@ -1,6 +1,5 @@
 package minicraft.level.tile;
 
-import minicraft.core.CrashHandler;
 import minicraft.level.tile.farming.FarmTile;
 import minicraft.level.tile.farming.PotatoTile;
 import minicraft.level.tile.farming.WheatTile;
@@ -8,6 +7,8 @@ import minicraft.util.Logging;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Tiles {
 	/// Idea: to save tile names while saving space, I could encode the names in base 64 in the save file...^M
@@ -16,77 +17,132 @@ public final class Tiles {
 	public static ArrayList<String> oldids = new ArrayList<>();
 
 	private static HashMap<Short, Tile> tiles = new HashMap<>();
+	private static final Tile[] tileTable = new Tile[32768]; // Tiles indexed by id, including the torch variants.
+	private static final Map<String, Short> nameIndex = new ConcurrentHashMap<>(); // Maps upper-case tile names to their ids.
+
+	// Handles to the tiles used by the game logic, so that they do not have to be looked up by name.
+	public static Tile GRASS, DIRT, FLOWER, HOLE, STAIRS_UP, STAIRS_DOWN, WATER, LAVA, ROCK, TREE, SAND, CACTUS;
+	public static Tile IRON_ORE, GOLD_ORE, GEM_ORE, LAPIS, EXPLODE, FARMLAND, WHEAT, HARD_ROCK, INFINITE_FALL, CLOUD, CLOUD_CACTUS;
+	public static Tile WOOD_DOOR, STONE_DOOR, OBSIDIAN_DOOR, WOOD_PLANKS, STONE_BRICKS, OBSIDIAN, OBSIDIAN_WALL, WOOL, PATH, RAW_OBSIDIAN, ORNATE_OBSIDIAN;
+	public static Tile CONNECTOR;
+
+	private static boolean randomTicks = false; // If any tile is ticked at random.
+
+	private static void put(int id, Tile tile) {
+		if (tile.randomTicks) randomTicks = true;
+		tile.id = (short) id;
+		tiles.put((short) id, tile);
+		tileTable[id] = tile;
+		nameIndex.put(tile.name, (short) id);
+	}
 
 	public static void initTileList() {
 		Logging.TILES.debug("Initializing tile list...");
 
-		tiles.put((short)0, new GrassTile("Grass"));
-		tiles.put((short)1, new DirtTile("Dirt"));
-		tiles.put((short)2, new FlowerTile("Flower"));
-		tiles.put((short)3, new HoleTile("Hole"));
-		tiles.put((short)4, new StairsTile("Stairs Up", true));
-		tiles.put((short)5, new StairsTile("Stairs Down", false));
-		tiles.put((short)6, new WaterTile("Water"));
+		put(0, new GrassTile("Grass"));
+		put(1, new DirtTile("Dirt"));
+		put(2, new FlowerTile("Flower"));
+		put(3, new HoleTile("Hole"));
+		put(4, new StairsTile("Stairs Up", true));
+		put(5, new StairsTile("Stairs Down", false));
+		put(6, new WaterTile("Water"));
 		// This is out of order because of lava buckets
-		tiles.put((short)17, new LavaTile("Lava"));
-
-		tiles.put((short)7, new RockTile("Rock"));
-		tiles.put((short)8, new TreeTile("Tree"));
-		tiles.put((short)9, new SaplingTile("Tree Sapling", Tiles.get("Grass"), Tiles.get("Tree")));
-		tiles.put((short)10, new SandTile("Sand"));
-		tiles.put((short)11, new CactusTile("Cactus"));
-		tiles.put((short)12, new SaplingTile("Cactus Sapling", Tiles.get("Sand"), Tiles.get("Cactus")));
-		tiles.put((short)13, new OreTile(OreTile.OreType.Iron));
-		tiles.put((short)14, new OreTile(OreTile.OreType.Gold));
-		tiles.put((short)15, new OreTile(OreTile.OreType.Gem));
-		tiles.put((short)16, new OreTile(OreTile.OreType.Lapis));
-		tiles.put((short)18, new LavaBrickTile("Lava Brick"));
-		tiles.put((short)19, new ExplodedTile("Explode"));
-		tiles.put((short)20, new FarmTile("Farmland"));
-		tiles.put((short)21, new WheatTile("Wheat"));
-		tiles.put((short)22, new HardRockTile("Hard Rock"));
-		tiles.put((short)23, new InfiniteFallTile("Infinite Fall"));
-		tiles.put((short)24, new CloudTile("Cloud"));
-		tiles.put((short)25, new OreTile(OreTile.OreType.Cloud));
-		tiles.put((short)26, new DoorTile(Tile.Material.Wood));
-		tiles.put((short)27, new DoorTile(Tile.Material.Stone));
-		tiles.put((short)28, new DoorTile(Tile.Material.Obsidian));
-		tiles.put((short)29, new FloorTile(Tile.Material.Wood));
-		tiles.put((short)30, new FloorTile(Tile.Material.Stone));
-		tiles.put((short)31, new FloorTile(Tile.Material.Obsidian));
-		tiles.put((short)32, new WallTile(Tile.Material.Wood));
-		tiles.put((short)33, new WallTile(Tile.Material.Stone));
-		tiles.put((short)34, new WallTile(Tile.Material.Obsidian));
-		tiles.put((short)35, new WoolTile(WoolTile.WoolType.NORMAL));
-		tiles.put((short)36, new PathTile("Path"));
-		tiles.put((short)37, new WoolTile(WoolTile.WoolType.RED));
-		tiles.put((short)38, new WoolTile(WoolTile.WoolType.BLUE));
-		tiles.put((short)39, new WoolTile(WoolTile.WoolType.GREEN));
-		tiles.put((short)40, new WoolTile(WoolTile.WoolType.YELLOW));
-		tiles.put((short)41, new WoolTile(WoolTile.WoolType.BLACK));
-		tiles.put((short)42, new PotatoTile("Potato"));
-		tiles.put((short)43, new MaterialTile(Tile.Material.Stone));
-		tiles.put((short)44, new MaterialTile(Tile.Material.Obsidian));
-		tiles.put((short)45, new DecorTile(Tile.Material.Stone));
-		tiles.put((short)46, new DecorTile(Tile.Material.Obsidian));
-		tiles.put((short)47, new BossWallTile());
-		tiles.put((short)48, new BossFloorTile());
-		tiles.put((short)49, new BossDoorTile());
+		put(17, new LavaTile("Lava"));
+
+		put(7, new RockTile("Rock"));
+		put(8, new TreeTile("Tree"));
+		put(9, new SaplingTile("Tree Sapling", Tiles.get("Grass"), Tiles.get("Tree")));
+		put(10, new SandTile("Sand"));
+		put(11, new CactusTile("Cactus"));
+		put(12, new SaplingTile("Cactus Sapling", Tiles.get("Sand"), Tiles.get("Cactus")));
+		put(13, new OreTile(OreTile.OreType.Iron));
+		put(14, new OreTile(OreTile.OreType.Gold));
+		put(15, new OreTile(OreTile.OreType.Gem));
+		put(16, new OreTile(OreTile.OreType.Lapis));
+		put(18, new LavaBrickTile("Lava Brick"));
+		put(19, new ExplodedTile("Explode"));
+		put(20, new FarmTile("Farmland"));
+		put(21, new WheatTile("Wheat"));
+		put(22, new HardRockTile("Hard Rock"));
+		put(23, new InfiniteFallTile("Infinite Fall"));
+		put(24, new CloudTile("Cloud"));
+		put(25, new OreTile(OreTile.OreType.Cloud));
+		put(26, new DoorTile(Tile.Material.Wood));
+		put(27, new DoorTile(Tile.Material.Stone));
+		put(28, new DoorTile(Tile.Material.Obsidian));
+		put(29, new FloorTile(Tile.Material.Wood));
+		put(30, new FloorTile(Tile.Material.Stone));
+		put(31, new FloorTile(Tile.Material.Obsidian));
+		put(32, new WallTile(Tile.Material.Wood));
+		put(33, new WallTile(Tile.Material.Stone));
+		put(34, new WallTile(Tile.Material.Obsidian));
+		put(35, new WoolTile(WoolTile.WoolType.NORMAL));
+		put(36, new PathTile("Path"));
+		put(37, new WoolTile(WoolTile.WoolType.RED));
+		put(38, new WoolTile(WoolTile.WoolType.BLUE));
+		put(39, new WoolTile(WoolTile.WoolType.GREEN));
+		put(40, new WoolTile(WoolTile.WoolType.YELLOW));
+		put(41, new WoolTile(WoolTile.WoolType.BLACK));
+		put(42, new PotatoTile("Potato"));
+		put(43, new MaterialTile(Tile.Material.Stone));
+		put(44, new MaterialTile(Tile.Material.Obsidian));
+		put(45, new DecorTile(Tile.Material.Stone));
+		put(46, new DecorTile(Tile.Material.Obsidian));
+		put(47, new BossWallTile());
+		put(48, new BossFloorTile());
+		put(49, new BossDoorTile());
 
 		// WARNING: don't use this tile for anything!
-		tiles.put((short)255, new ConnectTile());
+		put(255, new ConnectTile());
 
-		for(short i = 0; i < 256; i++) {
-			if(tiles.get(i) == null) continue;
-			tiles.get(i).id = (short)i;
+		// The torch variant of every tile is registered here, rather than when a torch is first placed on it,
+		// as that may happen on any of the threads ticking the levels, while others look tiles up.
+		for (int id = 0; id < TorchTile.ID_OFFSET; id++) {
+			if (tileTable[id] != null)
+				add(id + TorchTile.ID_OFFSET, new TorchTile(tileTable[id]));
 		}
+
+		GRASS = get(0);
+		DIRT = get(1);
+		FLOWER = get(2);
+		HOLE = get(3);
+		STAIRS_UP = get(4);
+		STAIRS_DOWN = get(5);
+		WATER = get(6);
+		ROCK = get(7);
+		TREE = get(8);
+		SAND = get(10);
+		CACTUS = get(11);
+		IRON_ORE = get(13);
+		GOLD_ORE = get(14);
+		GEM_ORE = get(15);
+		LAPIS = get(16);
+		LAVA = get(17);
+		EXPLODE = get(19);
+		FARMLAND = get(20);
+		WHEAT = get(21);
+		HARD_ROCK = get(22);
+		INFINITE_FALL = get(23);
+		CLOUD = get(24);
+		CLOUD_CACTUS = get(25);
+		WOOD_DOOR = get(26);
+		STONE_DOOR = get(27);
+		OBSIDIAN_DOOR = get(28);
+		WOOD_PLANKS = get(29);
+		STONE_BRICKS = get(30);
+		OBSIDIAN = get(31);
+		OBSIDIAN_WALL = get(34);
+		WOOL = get(35);
+		PATH = get(36);
+		RAW_OBSIDIAN = get(44);
+		ORNATE_OBSIDIAN = get(46);
+		CONNECTOR = get(255);
 	}
 
 
 	protected static void add(int id, Tile tile) {
-		tiles.put((short)id, tile);
+		put(id, tile);
 		Logging.TILES.debug("Adding " + tile.name + " to tile list with id " + id);
-		tile.id = (short) id;
 	}
 
 	static {
@@ -181,22 +237,17 @@ public final class Tiles {
 		oldids.set(55, "torch black wool");
 	}
 
-	private static int overflowCheck = 0;
+	/**
+	 * Returns the tile with the given name, in any case. A "torch " prefix gives the torch variant of the tile,
+	 * and anything from an underscore on is ignored. Names in upper case without either, as the game uses, are found without copying them.
+	 */
 	public static Tile get(String name) {
-		//System.out.println("Getting from tile list: " + name);
-
-		name = name.toUpperCase();
-
-		overflowCheck++;
-
-		if(overflowCheck > 50) {
-			CrashHandler.crashHandle(new StackOverflowError("Tiles#get: " + name), new CrashHandler.ErrorInfo("Tile fetching Stacking",
-				CrashHandler.ErrorInfo.ErrorType.SERIOUS, "STACKOVERFLOW prevented in Tiles.get(), on: " + name));
+		Short id = nameIndex.get(name);
+		if(id != null) {
+			return tileTable[id];
 		}
 
-		//System.out.println("Fetching tile " + name);
-
-		Tile getting = null;
+		name = name.toUpperCase();
 
 		boolean isTorch = false;
 		if(name.startsWith("TORCH")) {
@@ -208,24 +259,21 @@ public final class Tiles {
 			name = name.substring(0, name.indexOf("_"));
 		}
 
-		for(Tile t: tiles.values()) {
-			if(t == null) continue;
-			if(t.name.equals(name)) {
-				getting = t;
-				break;
-			}
+		Tile getting = null;
+		id = nameIndex.get(name);
+		if(id != null) {
+			getting = tileTable[id];
 		}
 
 		if(getting == null) {
 			Logging.TILES.info("Invalid tile requested: " + name);
-			getting = tiles.get((short)0);
+			getting = tileTable[0];
 		}
 
 		if(isTorch) {
 			getting = TorchTile.getTorchTile(getting);
 		}
 
-		overflowCheck = 0;
 		return getting;
 	}
 
@@ -233,20 +281,24 @@ public final class Tiles {
 		//System.out.println("Requesting tile by id: " + id);
 		if(id < 0) id += 32768;
 
-		if(tiles.get((short)id) != null) {
-			return tiles.get((short)id);
+		Tile tile = id < tileTable.length ? tileTable[id] : null;
+		if(tile != null) {
+			return tile;
 		}
 		else if(id >= 32767) {
 			return TorchTile.getTorchTile(get(id - 32767));
 		}
 		else {
 			Logging.TILES.info("Unknown tile id requested: " + id);
-			return tiles.get((short)0);
+			return tileTable[0];
 		}
 	}
 
+	/** Returns true if any tile has {@link Tile#randomTicks} set, so that levels know if they need to pick tiles at random to tick. */
+	public static boolean hasRandomTicks() { return randomTicks; }
+
 	public static boolean containsTile(int id) {
-		return tiles.get((short)id) != null;
+		return id >= 0 && id < tileTable.length && tileTable[id] != null;
 	}
 
 	public static String getName(String descriptName) {
@@ -14,23 +14,19 @@ import minicraft.util.AdvancementElement;
 import org.tinylog.Logger;
 
 public class TorchTile extends Tile {
+	static final int ID_OFFSET = 16384; // The id of the torch variant of a tile is that of the tile plus this.
+
 	private Tile onType;
 
 	public static TorchTile getTorchTile(Tile onTile) {
 		int id = onTile.id & 0xFFFF;
-		if(id < 16384) id += 16384;
+		if(id < ID_OFFSET) id += ID_OFFSET;
 		else Logger.tag("TorchTile").info("Tried to place torch on torch tile...");
 
-		if(Tiles.containsTile(id))
-			return (TorchTile)Tiles.get(id);
-		else {
-			TorchTile tile = new TorchTile(onTile);
-			Tiles.add(id, tile);
-			return tile;
-		}
+		return (TorchTile)Tiles.get(id); // All of them are registered by Tiles.initTileList().
 	}
 
-	private TorchTile(Tile onType) {
+	TorchTile(Tile onType) {
 		super("Torch "+ onType.name, new SpriteAnimation(SpriteType.Tile, "torch"));
 		this.onType = onType;
 		this.connectsToSand = onType.connectsToSand;
@@ -31,7 +31,7 @@ public class TreeTile extends Tile {
 	}
 
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Grass").render(screen, level, x, y);
+		Tiles.GRASS.render(screen, level, x, y);
 
 		boolean u = level.getTile(x, y - 1) == this;
 		boolean l = level.getTile(x - 1, y) == this;
@@ -70,6 +70,11 @@ public class TreeTile extends Tile {
 		}
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (level.getData(xt, yt) > 0) scheduleTick(level, xt, yt); // Heals over time.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
 		int damage = level.getData(xt, yt);
 		if (damage > 0) {
@@ -124,7 +129,7 @@ public class TreeTile extends Tile {
 		if (damage >= treeHealth) {
 			level.dropItem(x * 16 + 8, y * 16 + 8, 1, 3, Items.get("Wood"));
 			level.dropItem(x * 16 +  8, y * 16 + 8, 0, 2, Items.get("Acorn"));
-			level.setTile(x, y, Tiles.get("Grass"));
+			level.setTile(x, y, Tiles.GRASS);
 			AchievementsDisplay.setAchievement("minicraft.achievement.woodcutter", true);
 		} else {
 			level.setData(x, y, damage);
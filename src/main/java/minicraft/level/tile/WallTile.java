@@ -89,32 +89,38 @@ public class WallTile extends Tile {
 
 		level.add(new TextParticle("" + dmg, x * 16 + 8, y * 16 + 8, Color.RED));
 		if (damage >= sbwHealth) {
-			String itemName = "", tilename = "";
+			String itemName = "";
+			Tile floor = null;
 			switch (type) { // Get what tile to set and what item to drop
 				case Wood: {
 					itemName = "Plank";
-					tilename = "Wood Planks";
+					floor = Tiles.WOOD_PLANKS;
 					break;
 				}
 				case Stone: {
 					itemName = "Stone Brick";
-					tilename = "Stone Bricks";
+					floor = Tiles.STONE_BRICKS;
 					break;
 				}
 				case Obsidian: {
 					itemName = "Obsidian Brick";
-					tilename = "Obsidian";
+					floor = Tiles.OBSIDIAN;
 					break;
 				}
 			}
 
 			level.dropItem(x * 16 + 8, y * 16 + 8, 1, 3 - type.ordinal(), Items.get(itemName));
-			level.setTile(x, y, Tiles.get(tilename));
+			level.setTile(x, y, floor);
 		} else {
 			level.setData(x, y, damage);
 		}
 	}
 
+	@Override
+	public void onChange(Level level, int xt, int yt) {
+		if (level.getData(xt, yt) > 0) scheduleTick(level, xt, yt); // Heals over time.
+	}
+
 	public boolean tick(Level level, int xt, int yt) {
 		int damage = level.getData(xt, yt);
 		if (damage > 0) {
@@ -1,5 +1,6 @@
 package minicraft.level.tile;
 
+import minicraft.entity.Direction;
 import minicraft.entity.Entity;
 import minicraft.gfx.Screen;
 import minicraft.gfx.SpriteAnimation;
@@ -18,7 +19,7 @@ public class WaterTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -28,25 +29,22 @@ public class WaterTile extends Tile {
 	}
 
 	@Override
-	public boolean tick(Level level, int xt, int yt) {
-		int xn = xt;
-		int yn = yt;
-
-		if (random.nextBoolean()) xn += random.nextInt(2) * 2 - 1;
-		else yn += random.nextInt(2) * 2 - 1;
-
-		if (level.getTile(xn, yn) == Tiles.get("Hole")) {
-			level.setTile(xn, yn, this);
-		}
+	public void onChange(Level level, int xt, int yt) {
+		if (isNextTo(level, xt, yt, Tiles.HOLE) || isNextTo(level, xt, yt, Tiles.LAVA))
+			level.activateFluid(xt, yt);
+	}
 
-		// These set only the non-diagonally adjacent lava tiles to obsidian
-		for (int x = -1; x < 2; x++) {
-			if (level.getTile(xt + x, yt) == Tiles.get("Lava"))
-				level.setTile(xt + x, yt, Tiles.get("Raw Obsidian"));
-		}
-		for (int y = -1; y < 2; y++) {
-			if (level.getTile(xt, yt + y) == Tiles.get("lava"))
-				level.setTile(xt, yt + y, Tiles.get("Raw Obsidian"));
+	/** Flows into the holes next to it, and turns the lava next to it into obsidian. */
+	@Override
+	public boolean tick(Level level, int xt, int yt) {
+		// Only the non-diagonally adjacent tiles
+		for (int i = 0; i < 4; i++) {
+			Direction dir = Direction.getDirection(i);
+			int xn = xt + dir.getX();
+			int yn = yt + dir.getY();
+			Tile tile = level.getTile(xn, yn);
+			if (tile == Tiles.HOLE) level.setTile(xn, yn, this);
+			else if (tile == Tiles.LAVA) level.setTile(xn, yn, Tiles.RAW_OBSIDIAN);
 		}
 		return false;
 	}
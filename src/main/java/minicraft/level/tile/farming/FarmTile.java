@@ -32,7 +32,7 @@ public class FarmTile extends Tile {
             if (tool.type == ToolType.Shovel) {
                 if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					int data = level.getData(xt, yt);
-                    level.setTile(xt, yt, Tiles.get("Dirt"));
+                    level.setTile(xt, yt, Tiles.DIRT);
                     Sound.play("monsterhurt");
 					AdvancementElement.AdvancementTrigger.ItemUsedOnTileTrigger.INSTANCE.trigger(
 						new AdvancementElement.AdvancementTrigger.ItemUsedOnTileTrigger.ItemUsedOnTileTriggerConditionHandler.ItemUsedOnTileTriggerConditions(
@@ -44,6 +44,11 @@ public class FarmTile extends Tile {
         return false;
     }
 
+    @Override
+    public void onChange(Level level, int xt, int yt) {
+        if (level.getData(xt, yt) < 5) scheduleTick(level, xt, yt);
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int age = level.getData(xt, yt);
@@ -56,6 +61,6 @@ public class FarmTile extends Tile {
         if (entity instanceof ItemEntity) return;
         if (random.nextInt(60) != 0) return;
         if (level.getData(xt, yt) < 5) return;
-        level.setTile(xt, yt, Tiles.get("Dirt"));
+        level.setTile(xt, yt, Tiles.DIRT);
     }
 }
@@ -29,9 +29,17 @@ public class PlantTile extends FarmTile {
         return true;
     }
 
+    @Override
+    public void onChange(Level level, int xt, int yt) {
+        if (level.getData(xt, yt) < maxAge) scheduleTick(level, xt, yt);
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
-        if (random.nextInt(2) == 0) return false;
+        if (random.nextInt(2) == 0) {
+            scheduleTick(level, xt, yt);
+            return false;
+        }
 
         int age = level.getData(xt, yt);
         if (age < maxAge) {
@@ -46,7 +54,7 @@ public class PlantTile extends FarmTile {
     protected boolean IfWater(Level level, int xs, int ys) {
         Tile[] areaTiles = level.getAreaTiles(xs, ys, 1);
         for(Tile t: areaTiles)
-            if(t == Tiles.get("Water"))
+            if(t == Tiles.WATER)
                 return true;
 
         return false;
@@ -74,6 +82,6 @@ public class PlantTile extends FarmTile {
 		// Play sound.
 		Sound.play("monsterhurt");
 
-        level.setTile(x, y, Tiles.get("Dirt"));
+        level.setTile(x, y, Tiles.DIRT);
     }
 }
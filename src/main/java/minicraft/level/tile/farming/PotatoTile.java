@@ -33,7 +33,7 @@ public class PotatoTile extends PlantTile {
         int age = level.getData(x, y);
         int icon = age / (maxAge / 5);
 
-        Tiles.get("Farmland").render(screen, level, x, y);
+        Tiles.FARMLAND.render(screen, level, x, y);
 		screen.render(x * 16, y * 16, spritStages[icon]);
     }
 
@@ -57,6 +57,6 @@ public class PotatoTile extends PlantTile {
 		// Play sound.
 		Sound.play("monsterhurt");
 
-        level.setTile(x, y, Tiles.get("Dirt"));
+        level.setTile(x, y, Tiles.DIRT);
     }
 }
@@ -25,7 +25,7 @@ public class WheatTile extends PlantTile {
 		int age = level.getData(x, y);
 		int icon = age / (maxAge / 5);
 
-		Tiles.get("Farmland").render(screen, level, x, y);
+		Tiles.FARMLAND.render(screen, level, x, y);
 		screen.render(x * 16, y * 16, spritStages[icon]);
 	}
 }
@@ -0,0 +1,194 @@
+package minicraft.saveload;
+
+import minicraft.level.Level;
+import minicraft.level.tile.Tiles;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads and writes the binary level files, used since 2.2.0-dev4 in place of the comma separated tile names.
+ * <p>
+ * After a short header, the rest of the file is deflate compressed, and holds the level size, seed and depth,
+ * a palette of the names of the tiles used in the level, and then the tiles (as palette indices) and the tile data,
+ * each as run-length encoded varints, in the same order as {@link Level#tiles}.
+ * Saving the names in the palette, rather than the ids, keeps the files valid if tile ids are changed.
+ */
+class LevelFile {
+	private static final int MAGIC = 0x4D504C56; // "MPLV"
+	private static final int FORMAT = 1; // The version of the layout below the header, should it ever change.
+
+	final int w, h;
+	final long seed;
+	final int depth;
+	final short[] tiles;
+	final short[] data;
+
+	private LevelFile(int w, int h, long seed, int depth, short[] tiles, short[] data) {
+		this.w = w;
+		this.h = h;
+		this.seed = seed;
+		this.depth = depth;
+		this.tiles = tiles;
+		this.data = data;
+	}
+
+	/** Copies the tiles of the level, so that they can be written while the level keeps changing. */
+	static LevelFile snapshot(Level level) {
+		return new LevelFile(level.w, level.h, level.getSeed(), level.depth, level.tiles.clone(), level.data.clone());
+	}
+
+	/** Writes this level to the stream. The stream is not closed. */
+	void write(OutputStream stream) throws IOException {
+		int size = w * h;
+
+		// Builds the palette, in order of first appearance.
+		HashMap<Short, Integer> paletteIdx = new HashMap<>();
+		List<String> palette = new ArrayList<>();
+		int[] tileIdx = new int[size];
+		for (int i = 0; i < size; i++) {
+			short id = tiles[i];
+			Integer idx = paletteIdx.get(id);
+			if (idx == null) {
+				idx = palette.size();
+				paletteIdx.put(id, idx);
+				palette.add(Tiles.get(id).name);
+			}
+
+			tileIdx[i] = idx;
+		}
+
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeByte(FORMAT);
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			DeflaterOutputStream compressed = new DeflaterOutputStream(out, deflater, 1 << 16);
+			DataOutputStream body = new DataOutputStream(compressed);
+			writeVarInt(body, w);
+			writeVarInt(body, h);
+			body.writeLong(seed);
+			body.writeInt(depth);
+
+			writeVarInt(body, palette.size());
+			for (String name : palette)
+				body.writeUTF(name);
+
+			writeRuns(body, tileIdx);
+
+			int[] tileData = new int[size];
+			for (int i = 0; i < size; i++)
+				tileData[i] = data[i] & 0xFFFF;
+			writeRuns(body, tileData);
+
+			body.flush();
+			compressed.finish();
+			out.flush();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	static LevelFile read(String filename) throws IOException {
+		try (InputStream in = new FileInputStream(filename)) {
+			return read(in);
+		} catch (IOException e) {
+			throw new IOException("Unable to read " + filename, e);
+		}
+	}
+
+	/** Reads a level written by {@link #write(OutputStream)}. The stream is not closed. */
+	static LevelFile read(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+		if (in.readInt() != MAGIC)
+			throw new IOException("Not a binary level file");
+		int format = in.readUnsignedByte();
+		if (format != FORMAT)
+			throw new IOException("Unsupported level file format " + format);
+
+		Inflater inflater = new Inflater();
+		try {
+			DataInputStream body = new DataInputStream(new BufferedInputStream(new InflaterInputStream(in, inflater), 1 << 16));
+			int w = readVarInt(body);
+			int h = readVarInt(body);
+			long seed = body.readLong();
+			int depth = body.readInt();
+
+			// Resolves each tile name only once, instead of once per tile.
+			short[] palette = new short[readVarInt(body)];
+			for (int i = 0; i < palette.length; i++)
+				palette[i] = Tiles.get(body.readUTF()).id;
+
+			short[] tiles = new short[w * h];
+			readRuns(body, tiles, palette);
+			short[] data = new short[w * h];
+			readRuns(body, data, null);
+
+			return new LevelFile(w, h, seed, depth, tiles, data);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/** Writes the values as pairs of run length and value. */
+	private static void writeRuns(DataOutputStream out, int[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			int value = values[i];
+			int end = i + 1;
+			while (end < values.length && values[end] == value) end++;
+
+			writeVarInt(out, end - i);
+			writeVarInt(out, value);
+			i = end;
+		}
+	}
+
+	/** Reads the runs written by {@link #writeRuns(DataOutputStream, int[])}, mapping the values through the palette if one is given. */
+	private static void readRuns(DataInputStream in, short[] values, short[] palette) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			int length = readVarInt(in);
+			int value = readVarInt(in);
+			if (length <= 0 || length > values.length - i || palette != null && value >= palette.length)
+				throw new IOException("Corrupted level file");
+
+			short v = palette == null ? (short) value : palette[value];
+			for (int end = i + length; i < end; i++)
+				values[i] = v;
+		}
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+
+		throw new IOException("Malformed varint");
+	}
+}
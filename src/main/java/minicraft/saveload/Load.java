@@ -107,6 +107,7 @@ public class Load {
 
 	public Load(String worldname) { this(worldname, true); }
 	public Load(String worldname, boolean loadGame) {
+		SaveWriter.flush(); // The world may still be being saved.
 		loadFromFile(location + "/saves/" + worldname + "/Game" + extension);
 		if (data.get(0).contains(".")) worldVer = new Version(data.get(0));
 		if (worldVer == null) worldVer = new Version("1.8");
@@ -178,6 +179,7 @@ public class Load {
 							int lvlidx = World.lvlIdx(-4);
 							boolean reAdd = Game.player.getLevel().depth == -4;
 							Level oriLevel = World.levels[lvlidx];
+							oriLevel.clearEntities(); // Forgets its entities, as the level is replaced.
 							World.levels[lvlidx] = new Level(oriLevel.w, oriLevel.h, oriLevel.getSeed(), -4, World.levels[World.lvlIdx(-3)], true);
 							if (reAdd) World.levels[lvlidx].add(Game.player);
 						} else {
@@ -517,7 +519,10 @@ public class Load {
 		// Settings
 		Settings.set("sound", json.getBoolean("sound"));
 		Settings.set("autosave", json.getBoolean("autosave"));
+		Settings.setIdx("bgsim", json.optInt("bgsim", 0));
+		Settings.setIdx("simdist", json.optInt("simdist", 2));
 		Settings.set("fps", json.getInt("fps"));
+		Settings.set("renderthread", json.optBoolean("renderthread", false));
 		Settings.set("showquests", json.optBoolean("showquests", true));
 
 		if (json.has("lang")) {
@@ -587,6 +592,20 @@ public class Load {
 		for(int l = World.maxLevelDepth; l >= World.minLevelDepth; l--) {
 			LoadingDisplay.setMessage(Level.getDepthString(l));
 			int lvlidx = World.lvlIdx(l);
+			if (worldVer.compareTo(new Version("2.2.0-dev4")) >= 0) { // Binary level files, see LevelFile.
+				LevelFile file;
+				try {
+					file = LevelFile.read(location + filename + lvlidx + extension);
+				} catch (IOException ex) {
+					throw new RuntimeException("Unable to load level " + lvlidx + ".", ex);
+				}
+
+				Settings.set("size", file.w);
+				LoadingDisplay.progress(percentInc);
+				addLoadedLevel(l, file.w, file.h, file.seed, file.tiles, file.data);
+				continue;
+			}
+
 			loadFromFile(location + filename + lvlidx + extension);
 
 			int lvlw = Integer.parseInt(data.get(0));
@@ -655,29 +674,7 @@ public class Load {
 				}
 			}
 
-			Level parent = World.levels[World.lvlIdx(l+1)];
-			World.levels[lvlidx] = new Level(lvlw, lvlh, seed, l, parent, false);
-
-			Level curLevel = World.levels[lvlidx];
-			curLevel.tiles = tiles;
-			curLevel.data = tdata;
-
-			if (Logging.logLevel) curLevel.printTileLocs(Tiles.get("Stairs Down"));
-
-			if (parent == null) continue;
-			/// confirm that there are stairs in all the places that should have stairs.
-			for (minicraft.gfx.Point p: parent.getMatchingTiles(Tiles.get("Stairs Down"))) {
-				if (curLevel.getTile(p.x, p.y) != Tiles.get("Stairs Up")) {
-					curLevel.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsUp", p.x, p.y);
-					curLevel.setTile(p.x, p.y, Tiles.get("Stairs Up"));
-				}
-			}
-			for (minicraft.gfx.Point p: curLevel.getMatchingTiles(Tiles.get("Stairs Up"))) {
-				if (parent.getTile(p.x, p.y) != Tiles.get("Stairs Down")) {
-					parent.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsDown", p.x, p.y);
-					parent.setTile(p.x, p.y, Tiles.get("Stairs Down"));
-				}
-			}
+			addLoadedLevel(l, lvlw, lvlh, seed, tiles, tdata);
 		}
 
 		LoadingDisplay.setMessage("minicraft.displays.loading.message.quests");
@@ -715,6 +712,34 @@ public class Load {
 		}
 	}
 
+	/** Creates the level at the given depth from the loaded tiles, and makes sure its stairs match up with the level above. */
+	private void addLoadedLevel(int l, int lvlw, int lvlh, long seed, short[] tiles, short[] tdata) {
+		int lvlidx = World.lvlIdx(l);
+		Level parent = World.levels[World.lvlIdx(l+1)];
+		World.levels[lvlidx] = new Level(lvlw, lvlh, seed, l, parent, false);
+
+		Level curLevel = World.levels[lvlidx];
+		curLevel.tiles = tiles;
+		curLevel.data = tdata;
+
+		if (Logging.logLevel) curLevel.printTileLocs(Tiles.STAIRS_DOWN);
+
+		if (parent == null) return;
+		/// confirm that there are stairs in all the places that should have stairs.
+		for (minicraft.gfx.Point p: parent.getMatchingTiles(Tiles.STAIRS_DOWN)) {
+			if (curLevel.getTile(p.x, p.y) != Tiles.STAIRS_UP) {
+				curLevel.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsUp", p.x, p.y);
+				curLevel.setTile(p.x, p.y, Tiles.STAIRS_UP);
+			}
+		}
+		for (minicraft.gfx.Point p: curLevel.getMatchingTiles(Tiles.STAIRS_UP)) {
+			if (parent.getTile(p.x, p.y) != Tiles.STAIRS_DOWN) {
+				parent.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsDown", p.x, p.y);
+				parent.setTile(p.x, p.y, Tiles.STAIRS_DOWN);
+			}
+		}
+	}
+
 	public void loadPlayer(String filename, Player player) {
 		LoadingDisplay.setMessage("Player");
 		loadFromFile(location + filename + extension);
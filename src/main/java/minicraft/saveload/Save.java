@@ -48,6 +48,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -62,6 +63,7 @@ public class Save {
 	public static String extension = ".miniplussave";
 
 	List<String> data;
+	private SaveWriter.Job job = null; // If not null, the files are collected here, to be written in the background.
 
 	/**
 	 * This is the main save method. Called by all Save() methods.
@@ -98,17 +100,18 @@ public class Save {
 	public Save(String worldname) {
 		this(new File(Game.gameDir+"/saves/" + worldname + "/"));
 
-		writeGame("Game");
+		// Only a snapshot is taken here; the files are written by the SaveWriter.
+		job = new SaveWriter.Job();
 		writeWorld("Level");
 		writePlayer("Player", Game.player);
 		writeInventory("Inventory", Game.player);
 		writeEntities("Entities");
+		// Last, as it holds the version the other files are read by; if the save is cut short, the world is still read as the older version it is.
+		writeGame("Game");
+		SaveWriter.submit(job);
+		job = null;
 
-		WorldSelectDisplay.updateWorlds();
-
-		Updater.notifyAll("minicraft.notification.world_saved");
 		Updater.asTick = 0;
-		Updater.saving = false;
 	}
 
 	/** This will save the settings in the settings menu. */
@@ -135,6 +138,18 @@ public class Save {
 	}
 
 	public void writeToFile(String filename, List<String> savedata) {
+		if (job != null) {
+			String[] lines = savedata.toArray(new String[0]);
+			job.add(filename, out -> {
+				BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out));
+				writeLines(writer, filename, lines, true);
+				writer.flush();
+			});
+
+			data.clear();
+			return;
+		}
+
 		try {
 			writeToFile(filename, savedata.toArray(new String[0]), true);
 		} catch (IOException ex) {
@@ -153,16 +168,20 @@ public class Save {
 
 	public static void writeToFile(String filename, String[] savedata, boolean isWorldSave) throws IOException {
 		try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(filename))) {
-			for (int i = 0; i < savedata.length; i++) {
-				bufferedWriter.write(savedata[i]);
-				if (isWorldSave) {
+			writeLines(bufferedWriter, filename, savedata, isWorldSave);
+		}
+	}
+
+	private static void writeLines(BufferedWriter bufferedWriter, String filename, String[] savedata, boolean isWorldSave) throws IOException {
+		for (int i = 0; i < savedata.length; i++) {
+			bufferedWriter.write(savedata[i]);
+			if (isWorldSave) {
+				bufferedWriter.write(",");
+				if (filename.contains("Level5") && i == savedata.length - 1) {
 					bufferedWriter.write(",");
-					if (filename.contains("Level5") && i == savedata.length - 1) {
-						bufferedWriter.write(",");
-					}
-				} else
-					bufferedWriter.write("\n");
-			}
+				}
+			} else
+				bufferedWriter.write("\n");
 		}
 	}
 
@@ -192,7 +211,10 @@ public class Save {
 		json.put("version", String.valueOf(Game.VERSION));
 		json.put("sound", String.valueOf(Settings.get("sound")));
 		json.put("autosave", String.valueOf(Settings.get("autosave")));
+		json.put("bgsim", String.valueOf(Settings.getIdx("bgsim")));
+		json.put("simdist", String.valueOf(Settings.getIdx("simdist")));
 		json.put("fps", String.valueOf(Settings.get("fps")));
+		json.put("renderthread", String.valueOf(Settings.get("renderthread")));
 		json.put("lang", Localization.getSelectedLocale().toLanguageTag());
 		json.put("skin", String.valueOf(SkinDisplay.getSelectedSkin()));
 		json.put("savedIP", MultiplayerDisplay.savedIP);
@@ -232,29 +254,8 @@ public class Save {
 	private void writeWorld(String filename) {
 		LoadingDisplay.setMessage("minicraft.displays.loading.message.levels");
 		for (int l = 0; l < World.levels.length; l++) {
-			String worldSize = String.valueOf(Settings.get("size"));
-			data.add(worldSize);
-			data.add(worldSize);
-			data.add(Long.toString(World.levels[l].getSeed()));
-			data.add(String.valueOf(World.levels[l].depth));
-
-			for (int x = 0; x < World.levels[l].w; x++) {
-				for (int y = 0; y < World.levels[l].h; y++) {
-					data.add(String.valueOf(World.levels[l].getTile(x, y).name));
-				}
-			}
-
-			writeToFile(location + filename + l + extension, data);
-		}
-
-		for (int l = 0; l < World.levels.length; l++) {
-			for (int x = 0; x < World.levels[l].w; x++) {
-				for (int y = 0; y < World.levels[l].h; y++) {
-					data.add(String.valueOf(World.levels[l].getData(x, y)));
-				}
-			}
-
-			writeToFile(location + filename + l + "data" + extension, data);
+			job.add(location + filename + l + extension, LevelFile.snapshot(World.levels[l])::write);
+			job.delete(new File(location + filename + l + "data" + extension)); // The tile data is now part of the level file.
 		}
 
 		JSONObject fileObj = new JSONObject();
@@ -263,12 +264,12 @@ public class Save {
 		AdvancementElement.saveRecipeUnlockingElements(fileObj);
 		QuestsDisplay.save(fileObj);
 
-		try {
-			writeJSONToFile(location + "advancements.json", fileObj.toString(4));
-		} catch (IOException e) {
-			e.printStackTrace();
-			Logging.SAVELOAD.error("Unable to write advancements.json.");
-		}
+		String advancements = fileObj.toString(4);
+		job.add(location + "advancements.json", out -> {
+			BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out));
+			writer.write(advancements);
+			writer.flush();
+		});
 	}
 
 	private void writePlayer(String filename, Player player) {
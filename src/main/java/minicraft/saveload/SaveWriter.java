@@ -0,0 +1,163 @@
+package minicraft.saveload;
+
+import minicraft.core.Updater;
+import minicraft.screen.LoadingDisplay;
+import minicraft.screen.WorldSelectDisplay;
+import minicraft.util.Logging;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes world saves on a background thread, so that the game does not stall while the files are written.
+ * {@link Save} takes a snapshot of everything to be written on the game thread, at a tick boundary, and hands it over here as a {@link Job}.
+ * Each file is first written to a temporary file next to it, which is then moved over the old one,
+ * so a save that is cut short never leaves a half-written file behind.
+ */
+public class SaveWriter {
+	private SaveWriter() {}
+
+	/** Writes the contents of a file to the given stream. */
+	interface Output {
+		void write(OutputStream out) throws IOException;
+	}
+
+	/** The files of one save, in the order they are written. */
+	static class Job {
+		private final List<String> filenames = new ArrayList<>();
+		private final List<Output> outputs = new ArrayList<>();
+		private final List<File> obsolete = new ArrayList<>();
+
+		void add(String filename, Output output) {
+			filenames.add(filename);
+			outputs.add(output);
+		}
+
+		/** Marks a file left over from an older save format, to be deleted once the save has succeeded. */
+		void delete(File file) {
+			obsolete.add(file);
+		}
+	}
+
+	private static ExecutorService writer = null;
+	private static final ConcurrentLinkedQueue<Future<?>> pending = new ConcurrentLinkedQueue<>(); // Waited on by the world loader as well as the game thread.
+	private static final ConcurrentLinkedQueue<Boolean> finished = new ConcurrentLinkedQueue<>(); // Whether each finished job succeeded.
+
+	/** Starts writing the save in the background. */
+	static void submit(Job job) {
+		Updater.saving = true;
+		LoadingDisplay.setPercentage(0);
+		pending.add(getWriter().submit(() -> finished.add(write(job))));
+	}
+
+	/** Returns true if a save is still being written. */
+	public static boolean isWriting() {
+		pending.removeIf(Future::isDone);
+		return !pending.isEmpty();
+	}
+
+	/** Should be called from the game thread every tick; lets the player know once a save has been written. */
+	public static void tick() {
+		Boolean success;
+		while ((success = finished.poll()) != null) {
+			if (success) Updater.notifyAll("minicraft.notification.world_saved");
+			WorldSelectDisplay.updateWorlds();
+		}
+
+		if (Updater.saving && !isWriting() && finished.isEmpty())
+			Updater.saving = false;
+	}
+
+	/**
+	 * Waits for all the saves that have been started to be written.
+	 * This must be called before the game exits, and before a world is loaded.
+	 * It may be called from any thread; the player is told about the saves in {@link #tick()}, on the game thread, as usual.
+	 */
+	public static void flush() {
+		for (Future<?> task : pending) {
+			try {
+				task.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException e) {
+				Logging.SAVELOAD.error(e.getCause(), "Unable to write save.");
+			}
+		}
+	}
+
+	private static boolean write(Job job) {
+		float percentInc = 100f / Math.max(1, job.filenames.size());
+		for (int i = 0; i < job.filenames.size(); i++) {
+			String filename = job.filenames.get(i);
+			try {
+				writeFile(filename, job.outputs.get(i));
+			} catch (IOException e) {
+				Logging.SAVELOAD.error(e, "Unable to write {}.", filename);
+				return false;
+			}
+
+			LoadingDisplay.progress(percentInc);
+		}
+
+		for (File file : job.obsolete) {
+			if (file.exists() && !file.delete())
+				Logging.SAVELOAD.warn("Unable to delete " + file + ".");
+		}
+
+		return true;
+	}
+
+	private static void writeFile(String filename, Output output) throws IOException {
+		Path target = new File(filename).toPath();
+		Path temp = new File(filename + ".tmp").toPath();
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(temp.toFile()))) {
+			output.write(out);
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+
+		try {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static ExecutorService getWriter() {
+		if (writer == null) {
+			writer = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "Save Writer");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			// Makes sure a save that is still being written is finished, however the game is closed.
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				writer.shutdown();
+				try {
+					while (!writer.awaitTermination(1, TimeUnit.SECONDS))
+						Logging.SAVELOAD.debug("Waiting for the save to be written...");
+				} catch (InterruptedException ignored) {}
+			}, "Save Writer Shutdown"));
+		}
+
+		return writer;
+	}
+}
@@ -1,6 +1,7 @@
 package minicraft.screen;
 
 import minicraft.core.Game;
+import minicraft.core.LevelSimulation;
 import minicraft.core.io.InputHandler;
 import minicraft.core.io.Localization;
 import minicraft.core.io.Sound;
@@ -146,6 +147,9 @@ public class AchievementsDisplay extends Display {
 	public static boolean setAchievement(boolean allowCreative, String id, boolean unlocked) { return setAchievement(id, unlocked, true, allowCreative); }
 
 	private static boolean setAchievement(String id, boolean unlocked, boolean save, boolean allowCreative) {
+		// Achievements earned on the levels ticked in the background are given on the game thread, once they are done.
+		if (LevelSimulation.defer(() -> setAchievement(id, unlocked, save, allowCreative))) return false;
+
         Achievement a = achievements.get(id);
 
 		// Return if it is in creative mode
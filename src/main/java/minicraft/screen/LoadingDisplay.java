@@ -1,7 +1,9 @@
 package minicraft.screen;
 
 import minicraft.core.Game;
+import minicraft.core.Updater;
 import minicraft.core.World;
+import minicraft.core.io.InputHandler;
 import minicraft.core.io.Localization;
 import minicraft.gfx.Color;
 import minicraft.gfx.Ellipsis;
@@ -12,36 +14,40 @@ import minicraft.gfx.FontStyle;
 import minicraft.gfx.Screen;
 import minicraft.saveload.Save;
 
-import javax.swing.Timer;
-
 public class LoadingDisplay extends Display {
+	private static final long START_DELAY = 500; // Milliseconds before the world starts loading, so that this is shown first.
 
 	private static float percentage = 0;
 	private static String progressType = "";
 
-	private final Timer t;
 	private final Ellipsis ellipsis = new SmoothEllipsis(new TimeUpdater());
 
 	private String msg = "";
 
+	private Thread loader = null; // The world is loaded on its own thread, so the game thread can keep showing the progress.
+	private volatile boolean loaded = false;
+	private volatile RuntimeException failure = null;
+
 	public LoadingDisplay() {
 		super(true, false);
-		t = new Timer(500, e -> {
-			try {
-				World.initWorld();
+	}
+
+	@Override
+	public void tick(InputHandler input) {
+		super.tick(input);
+
+		if (loaded) { // The result is dealt with here, on the game thread.
+			loaded = false;
+			if (failure == null) {
 				Game.setDisplay(null);
-			} catch (RuntimeException ex) {
-				Throwable t = ex.getCause();
-				if (t instanceof InterruptedException) {
-					Game.exitDisplay();
-					World.onWorldExits();
-					Game.exitDisplay();
-					Game.setDisplay(new PopupDisplay(null, "minicraft.displays.loading.regeneration_cancellation_popup.display"));
-				} else
-					throw ex;
-			}
-		});
-		t.setRepeats(false);
+			} else if (failure.getCause() instanceof InterruptedException) {
+				Game.exitDisplay();
+				World.onWorldExits();
+				Game.exitDisplay();
+				Game.setDisplay(new PopupDisplay(null, "minicraft.displays.loading.regeneration_cancellation_popup.display"));
+			} else
+				throw failure;
+		}
 	}
 
 	@Override
@@ -53,7 +59,22 @@ public class LoadingDisplay extends Display {
 			msg = "minicraft.displays.loading.message.loading";
 		else
 			msg = "minicraft.displays.loading.message.generating";
-		t.start();
+
+		// Started here rather than in tick(), as displays aren't ticked while the window is out of focus.
+		if (loader == null) {
+			loader = new Thread(() -> {
+				try {
+					Thread.sleep(START_DELAY);
+					World.initWorld();
+				} catch (InterruptedException ex) {
+					failure = new RuntimeException(ex); // Dealt with as the loading being cancelled.
+				} catch (RuntimeException ex) {
+					failure = ex;
+				}
+				loaded = true;
+			}, "World Loader");
+			loader.start();
+		}
 	}
 
 	@Override
@@ -12,6 +12,7 @@ public class OptionsMainMenuDisplay extends Display {
     public OptionsMainMenuDisplay() {
         super(true, new Menu.Builder(false, 6, RelPos.LEFT,
 			Settings.getEntry("fps"),
+			Settings.getEntry("renderthread"),
 			Settings.getEntry("sound"),
 			Settings.getEntry("showquests"),
 			new SelectEntry("minicraft.display.options_display.change_key_bindings", () -> Game.setDisplay(new KeyInputDisplay())),
@@ -61,8 +61,11 @@ public class OptionsWorldDisplay extends Display {
 	private List<ListEntry> getEntries() {
 		return new ArrayList<>(Arrays.asList(Settings.getEntry("diff"),
 			Settings.getEntry("fps"),
+			Settings.getEntry("renderthread"),
 			Settings.getEntry("sound"),
 			Settings.getEntry("autosave"),
+			Settings.getEntry("bgsim"),
+			Settings.getEntry("simdist"),
 			new SelectEntry("minicraft.display.options_display.change_key_bindings", () -> Game.setDisplay(new KeyInputDisplay())),
 			new SelectEntry("minicraft.displays.controls", () -> Game.setDisplay(new ControlsDisplay())),
 			new SelectEntry("minicraft.display.options_display.language", () -> Game.setDisplay(new LanguageSettingsDisplay())),
@@ -6,6 +6,7 @@ import minicraft.core.VersionInfo;
 import minicraft.core.World;
 import minicraft.core.io.InputHandler;
 import minicraft.core.io.Localization;
+import minicraft.entity.EntityRegistry;
 import minicraft.gfx.Color;
 import minicraft.gfx.Font;
 import minicraft.gfx.MinicraftImage;
@@ -81,6 +82,7 @@ public class TitleDisplay extends Display {
 		}
 
 		World.levels = new Level[World.levels.length];
+		EntityRegistry.clear();
 
 		if(Game.player == null)
 			// Was online, need to reset player
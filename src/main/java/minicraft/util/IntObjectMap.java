@@ -0,0 +1,113 @@
+package minicraft.util;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A hash map from int keys to non-null values, without boxing the keys.
+ * It uses open addressing with linear probing, and shifts entries back on removal, so there are no tombstones.
+ */
+public class IntObjectMap<V> {
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private int[] keys;
+	private Object[] values; // A null value marks a free slot.
+	private int mask;
+	private int size = 0;
+
+	public IntObjectMap() { this(16); }
+	public IntObjectMap(int capacity) {
+		int slots = Integer.highestOneBit(Math.max(4, (int) (capacity / LOAD_FACTOR)) - 1) << 1;
+		keys = new int[slots];
+		values = new Object[slots];
+		mask = slots - 1;
+	}
+
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9; // Fibonacci hashing spreads out consecutive keys.
+		return h ^ (h >>> 16);
+	}
+
+	public int size() { return size; }
+
+	public boolean containsKey(int key) { return get(key) != null; }
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask)
+			if (keys[i] == key)
+				return (V) values[i];
+
+		return null;
+	}
+
+	/** Maps the key to the value, and returns the value it was mapped to before, if any. */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value) {
+		if (value == null) throw new NullPointerException("IntObjectMap values can't be null");
+
+		int i = hash(key) & mask;
+		for (; values[i] != null; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				V old = (V) values[i];
+				values[i] = value;
+				return old;
+			}
+		}
+
+		keys[i] = key;
+		values[i] = value;
+		if (++size > keys.length * LOAD_FACTOR) resize(keys.length * 2);
+		return null;
+	}
+
+	/** Removes the mapping of the key, and returns the value it was mapped to, if any. */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V remove(int key) {
+		int i = hash(key) & mask;
+		while (values[i] != null && keys[i] != key)
+			i = (i + 1) & mask;
+		if (values[i] == null) return null;
+
+		V old = (V) values[i];
+		size--;
+
+		// Shifts back the entries after it that would no longer be found past the gap.
+		int gap = i;
+		for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+			int home = hash(keys[j]) & mask;
+			if (((j - home) & mask) >= ((j - gap) & mask)) {
+				keys[gap] = keys[j];
+				values[gap] = values[j];
+				gap = j;
+			}
+		}
+		values[gap] = null;
+
+		return old;
+	}
+
+	public void clear() {
+		java.util.Arrays.fill(values, null);
+		size = 0;
+	}
+
+	private void resize(int slots) {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new int[slots];
+		values = new Object[slots];
+		mask = slots - 1;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] == null) continue;
+			int j = hash(oldKeys[i]) & mask;
+			while (values[j] != null)
+				j = (j + 1) & mask;
+			keys[j] = oldKeys[i];
+			values[j] = oldValues[i];
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package minicraft.entity;
+
+import minicraft.Fixtures;
+import minicraft.item.Items;
+import minicraft.item.StackableItem;
+import minicraft.level.Level;
+import minicraft.level.tile.Tiles;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemEntityTest {
+	@BeforeAll
+	static void init() { Fixtures.init(); }
+
+	private static int count(ItemEntity drop) { return ((StackableItem) drop.item).count; }
+
+	/** Adds a drop of one wood at the given position, and ticks the level so it is in the grid. */
+	private static ItemEntity drop(Level level, int x, int y) {
+		ItemEntity drop = new ItemEntity(Items.get("Wood"), x, y);
+		level.add(drop);
+		level.tick(false);
+		return drop;
+	}
+
+	@Test
+	void dropsNextToEachOtherMerge() {
+		Level level = Fixtures.flat(16, Tiles.GRASS);
+		ItemEntity a = drop(level, 8 * 16 + 8, 8 * 16 + 8);
+		ItemEntity b = drop(level, 9 * 16 + 8, 8 * 16 + 8);
+
+		level.mergeDrops(a);
+
+		assertEquals(2, count(a));
+		assertTrue(b.isRemoved());
+	}
+
+	@Test
+	void dropPickedUpEarlierInTheTickIsNotMerged() {
+		Level level = Fixtures.flat(16, Tiles.GRASS);
+		ItemEntity picked = drop(level, 8 * 16 + 8, 8 * 16 + 8);
+		ItemEntity other = drop(level, 9 * 16 + 8, 8 * 16 + 8);
+
+		// This is what the player does on picking a drop up, once the items are in the inventory.
+		// The drop stays in the grid until the removals at the end of the tick.
+		picked.remove();
+		level.mergeDrops(other);
+
+		assertEquals(1, count(other));
+		assertFalse(other.absorb(picked));
+		assertEquals(1, count(other));
+	}
+}
@@ -0,0 +1,33 @@
+package minicraft.level;
+
+import minicraft.Fixtures;
+import minicraft.core.io.Settings;
+import minicraft.entity.mob.Cow;
+import minicraft.level.tile.Tiles;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DormancyTest {
+	@BeforeAll
+	static void init() { Fixtures.init(); }
+
+	@Test
+	void nothingIsDormantOnALevelWithoutPlayers() {
+		Level level = Fixtures.flat(16, Tiles.GRASS);
+		level.add(new Cow(), 8 * 16 + 8, 8 * 16 + 8);
+		level.tick(false);
+
+		int simdist = Settings.getIdx("simdist");
+		Settings.setIdx("simdist", 2); // The default.
+		try {
+			level.tick(true);
+		} finally {
+			Settings.setIdx("simdist", simdist);
+		}
+
+		// Levels without players are those simulated in the background, which are ticked less often already.
+		assertEquals(0, level.dormantCount);
+	}
+}
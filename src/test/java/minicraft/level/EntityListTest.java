@@ -0,0 +1,36 @@
+package minicraft.level;
+
+import minicraft.Fixtures;
+import minicraft.entity.Entity;
+import minicraft.entity.mob.Cow;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EntityListTest {
+	@BeforeAll
+	static void init() { Fixtures.init(); }
+
+	private static Entity entity(int eid) {
+		Entity e = new Cow();
+		e.eid = eid;
+		return e;
+	}
+
+	@Test
+	void cancelledAddOfAPooledEntityIsSkipped() {
+		EntityList list = new EntityList();
+		Entity pooled = entity(1), other = entity(2);
+		list.queueAdd(pooled);
+		list.queueAdd(other);
+		list.queueRemove(pooled);
+		pooled.eid = -1; // What going back to its pool does, once it is removed.
+
+		assertEquals(1, list.getPendingAdds().length);
+		assertSame(other, list.pollAdd());
+		assertNull(list.pollAdd());
+	}
+}
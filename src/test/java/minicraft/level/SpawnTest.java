@@ -0,0 +1,78 @@
+package minicraft.level;
+
+import minicraft.Fixtures;
+import minicraft.core.Updater;
+import minicraft.core.io.InputHandler;
+import minicraft.entity.Entity;
+import minicraft.entity.mob.PassiveMob;
+import minicraft.entity.mob.Player;
+import minicraft.level.tile.Tiles;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpawnTest {
+	private static final int SIZE = 128;
+
+	@BeforeAll
+	static void init() {
+		Fixtures.init();
+		Updater.tickCount = 0; // Morning, so only passive mobs spawn.
+	}
+
+	/** Makes a grass level with a player standing still in the middle of it. */
+	private static Player standIn(Level level) {
+		Player player = new Player(null, new InputHandler(false)) {
+			@Override
+			public void tick() {} // Stands still, without any input or display to tick with.
+		};
+		level.add(player, SIZE / 2 * 16 + 8, SIZE / 2 * 16 + 8);
+		level.tick(false);
+		return player;
+	}
+
+	private static List<PassiveMob> passiveMobs(Level level) {
+		List<PassiveMob> mobs = new ArrayList<>();
+		for (Entity e : level.getEntityArray())
+			if (e instanceof PassiveMob) mobs.add((PassiveMob) e);
+		return mobs;
+	}
+
+	@Test
+	void passiveMobsSpawnAroundThePlayer() {
+		Level level = Fixtures.flat(SIZE, Tiles.GRASS);
+		Player player = standIn(level);
+
+		for (int i = 0; i < 100 && passiveMobs(level).isEmpty(); i++)
+			level.tick(true);
+
+		List<PassiveMob> mobs = passiveMobs(level);
+		assertFalse(mobs.isEmpty(), "no mob spawned in 100 ticks");
+		for (PassiveMob mob : mobs) {
+			double distance = Math.hypot(mob.x - player.x, mob.y - player.y) / 16;
+			assertTrue(distance >= 10 && distance <= 40, "spawned " + distance + " tiles from the player");
+		}
+	}
+
+	@Test
+	void spawnedMobsAreNotDespawnedRightAway() {
+		Level level = Fixtures.flat(SIZE, Tiles.GRASS);
+		standIn(level);
+
+		for (int i = 0; i < 100 && passiveMobs(level).isEmpty(); i++)
+			level.tick(true);
+
+		List<PassiveMob> mobs = passiveMobs(level);
+		assertFalse(mobs.isEmpty(), "no mob spawned in 100 ticks");
+		for (int i = 0; i < 100; i++)
+			level.tick(true);
+
+		for (PassiveMob mob : mobs)
+			assertFalse(mob.isRemoved(), "a mob spawned within the spawn range was despawned");
+	}
+}
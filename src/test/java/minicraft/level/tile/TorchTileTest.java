@@ -0,0 +1,21 @@
+package minicraft.level.tile;
+
+import minicraft.Fixtures;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TorchTileTest {
+	@BeforeAll
+	static void init() { Fixtures.init(); }
+
+	@Test
+	void torchVariantsAreRegisteredUpFront() {
+		Tile torch = Tiles.get(Tiles.WOOL.id + TorchTile.ID_OFFSET);
+		assertTrue(torch instanceof TorchTile);
+		assertSame(torch, TorchTile.getTorchTile(Tiles.WOOL));
+		assertSame(torch, Tiles.get("Torch Wool"));
+	}
+}
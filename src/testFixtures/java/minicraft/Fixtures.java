@@ -0,0 +1,100 @@
+package minicraft;
+
+import minicraft.core.Game;
+import minicraft.core.io.Settings;
+import minicraft.entity.mob.Cow;
+import minicraft.entity.mob.Mob;
+import minicraft.entity.mob.Pig;
+import minicraft.entity.mob.Sheep;
+import minicraft.gfx.MinicraftImage;
+import minicraft.level.Level;
+import minicraft.level.tile.Tile;
+import minicraft.level.tile.Tiles;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Synthetic fixtures for the tests and the benchmarks, so that they can run headless, without a game window, resource packs or save files.
+ * Everything made here only depends on the given seed, so benchmark runs on different commits are comparable.
+ */
+public final class Fixtures {
+	private Fixtures() {}
+
+	private static boolean initialized = false;
+
+	/** Sets up the global state the engine expects; safe to call before every test and from every benchmark setup. */
+	public static synchronized void init() {
+		if (initialized) return;
+		System.setProperty("java.awt.headless", "true");
+		Game.gameDir = new File(System.getProperty("java.io.tmpdir"), "minicraft-fixtures").getPath();
+		Tiles.initTileList();
+		Settings.setIdx("simdist", 0); // Everywhere, so nothing goes dormant for want of a player.
+		initialized = true;
+	}
+
+	/** Makes a surface level of the given size, with every tile set to the given one. */
+	public static Level flat(int size, Tile tile) {
+		init();
+		Level level = new Level(size, size, 0, null, false);
+		Arrays.fill(level.tiles, tile.id);
+		return level;
+	}
+
+	/**
+	 * Makes a surface level of the given size, with patches of grass, sand, trees, rock and water,
+	 * and the given number of passive mobs on the grass. The mobs are only added once the level is ticked.
+	 */
+	public static Level level(int size, int mobs, long seed) {
+		init();
+		Random random = new Random(seed);
+		Level level = new Level(size, size, 0, null, false);
+
+		Tile[] patches = { Tiles.SAND, Tiles.TREE, Tiles.ROCK, Tiles.WATER, Tiles.FLOWER };
+		for (int i = 0; i < size * size / 64; i++) {
+			Tile tile = patches[random.nextInt(patches.length)];
+			int xc = random.nextInt(size), yc = random.nextInt(size), r = 1 + random.nextInt(3);
+			for (int y = Math.max(0, yc - r); y <= Math.min(size - 1, yc + r); y++)
+				for (int x = Math.max(0, xc - r); x <= Math.min(size - 1, xc + r); x++)
+					level.tiles[x + y * size] = tile.id;
+		}
+
+		for (int i = 0; i < mobs; i++) {
+			int x, y;
+			do {
+				x = random.nextInt(size);
+				y = random.nextInt(size);
+			} while (level.getTile(x, y) != Tiles.GRASS);
+
+			Mob mob;
+			switch (i % 3) {
+				case 0: mob = new Cow(); break;
+				case 1: mob = new Pig(); break;
+				default: mob = new Sheep(); break;
+			}
+
+			level.add(mob, x, y, true);
+		}
+
+		return level;
+	}
+
+	/** Makes a sprite sheet of random colors, with about a quarter of the pixels transparent. */
+	public static MinicraftImage sheet(int width, int height, long seed) {
+		Random random = new Random(seed);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				image.setRGB(x, y, random.nextInt(4) == 0 ? 0 : 0xFF000000 | random.nextInt(0x1000000));
+
+		try {
+			return new MinicraftImage(image);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}